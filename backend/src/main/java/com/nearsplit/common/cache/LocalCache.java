@@ -0,0 +1,117 @@
+package com.nearsplit.common.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * packageName  : com.nearsplit.common.cache
+ * fileName     : LocalCache
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 인스턴스 로컬 메모리 캐시 (TTL + 최대 개수 LRU 제거)
+ *                  - 접근 순서 LinkedHashMap → 최대 개수 초과 시 가장 오래 안 쓴 항목부터 제거
+ *                  - 만료된 항목은 조회 시점에 제거
+ *                  - null 값은 저장하지 않음 (없는 값은 매번 원본 조회)
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+public class LocalCache<K, V> {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier ticker;      // 테스트에서 시간 조작용 (기본 System::nanoTime)
+    private final LinkedHashMap<K, CacheEntry<V>> store;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    private record CacheEntry<V>(V value, long expiresAt) {
+    }
+
+    public LocalCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, System::nanoTime);
+    }
+
+    public LocalCache(int maxSize, Duration ttl, LongSupplier ticker) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("캐시 최대 개수는 1 이상이어야 합니다.");
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.ticker = ticker;
+        this.store = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CacheEntry<V>> eldest) {
+                return size() > LocalCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * 캐시 조회 (없거나 만료되면 null)
+     */
+    public synchronized V get(K key) {
+        CacheEntry<V> entry = store.get(key);
+        if (entry == null) {
+            missCount.incrementAndGet();
+            return null;
+        }
+        if (entry.expiresAt() - ticker.getAsLong() <= 0) {
+            store.remove(key);
+            missCount.incrementAndGet();
+            return null;
+        }
+        hitCount.incrementAndGet();
+        return entry.value();
+    }
+
+    /**
+     * 캐시 조회 후 없으면 loader 로 읽어서 저장 (read-through)
+     * - loader 는 락 밖에서 실행 (느린 DB/외부 호출이 다른 키 조회를 막지 않도록)
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V cached = get(key);
+        if (cached != null) {
+            return cached;
+        }
+        V loaded = loader.apply(key);
+        if (loaded != null) {
+            put(key, loaded);
+        }
+        return loaded;
+    }
+
+    public synchronized void put(K key, V value) {
+        if (value == null) {
+            store.remove(key);
+            return;
+        }
+        store.put(key, new CacheEntry<>(value, ticker.getAsLong() + ttlNanos));
+    }
+
+    public synchronized void invalidate(K key) {
+        store.remove(key);
+    }
+
+    public synchronized void invalidateAll() {
+        store.clear();
+    }
+
+    public synchronized int size() {
+        return store.size();
+    }
+
+    public long hitCount() {
+        return hitCount.get();
+    }
+
+    public long missCount() {
+        return missCount.get();
+    }
+}
@@ -0,0 +1,32 @@
+package com.nearsplit.common.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * packageName  : com.nearsplit.common.dto
+ * fileName     : CursorResponse
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 커서(keyset) 기반 페이징 응답
+ *                  - OFFSET/COUNT 없이 "마지막으로 받은 항목 다음"부터 조회
+ *                  - nextCursor 를 그대로 다음 요청의 cursor 파라미터로 전달
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CursorResponse<T> {
+    private final List<T> items;
+    private final String nextCursor;    // 다음 페이지 없으면 null
+    private final boolean hasNext;
+
+    public static <T> CursorResponse<T> of(List<T> items, String nextCursor) {
+        return new CursorResponse<>(items, nextCursor, nextCursor != null);
+    }
+}
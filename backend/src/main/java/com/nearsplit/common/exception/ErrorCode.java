@@ -21,6 +21,7 @@ public enum ErrorCode {
     // 공통 에러 (C: Common)
     INVALID_INPUT(HttpStatus.BAD_REQUEST, "C001", "잘못된 입력입니다"),
     FORBIDDEN(HttpStatus.FORBIDDEN,"C002","권한이 없습니다"),
+    CONCURRENT_MODIFICATION(HttpStatus.CONFLICT, "C003", "다른 요청과 동시에 처리되었습니다. 잠시 후 다시 시도해 주세요"),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR,"C999", "서버 오류가 발생했습니다"),
 
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "AUTH-001", "인증이 필요합니다"),
@@ -0,0 +1,89 @@
+package com.nearsplit.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * packageName  : com.nearsplit.common.outbox
+ * fileName     : KafkaOutboxPublisher
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : Kafka 발행기 (outbox.kafka.enabled=true)
+ *                  - 묶음 전체를 비동기로 보낸 뒤 한 번에 응답 대기 → 프로듀서 배치 전송 활용
+ *                  - 응답은 이벤트마다 확인 → 실패/시간 초과된 이벤트만 결과에 담음
+ *                  - key = aggregateId, value = OutboxEnvelope JSON
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ * 2026-10-17(토)                user            이벤트별 성공/실패 판정
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.kafka.enabled", havingValue = "true")
+@Slf4j
+public class KafkaOutboxPublisher implements OutboxPublisher {
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final long sendTimeoutMs;
+
+    public KafkaOutboxPublisher(KafkaTemplate<String, String> kafkaTemplate,
+                                ObjectMapper objectMapper,
+                                @Value("${outbox.kafka.send-timeout-ms:10000}") long sendTimeoutMs) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.sendTimeoutMs = sendTimeoutMs;
+    }
+
+    @Override
+    public Map<OutboxEvent, String> publish(List<OutboxEvent> events) {
+        Map<OutboxEvent, String> failures = new IdentityHashMap<>();
+        List<CompletableFuture<?>> futures = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            try {
+                futures.add(kafkaTemplate.send(event.getEventType().getTopic(),
+                        String.valueOf(event.getAggregateId()), toJson(OutboxEnvelope.from(event))));
+            } catch (RuntimeException e) {
+                futures.add(CompletableFuture.failedFuture(e));     // 직렬화 실패 등 - 이 이벤트만 실패
+            }
+        }
+        kafkaTemplate.flush();
+
+        // 전체 대기 시간은 sendTimeoutMs 로 제한 (이벤트마다 남은 시간만큼만 대기)
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        for (int i = 0; i < events.size(); i++) {
+            try {
+                futures.get(i).get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failures.put(events.get(i), "Kafka 발행 대기 중 인터럽트");
+            } catch (ExecutionException e) {
+                failures.put(events.get(i), "Kafka 발행 실패: " + e.getCause().getMessage());
+            } catch (TimeoutException e) {
+                failures.put(events.get(i), "Kafka 발행 응답 시간 초과");
+            }
+        }
+        return failures;
+    }
+
+    private String toJson(OutboxEnvelope envelope) {
+        try {
+            return objectMapper.writeValueAsString(envelope);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("이벤트 직렬화 실패: eventId=" + envelope.eventId(), e);
+        }
+    }
+}
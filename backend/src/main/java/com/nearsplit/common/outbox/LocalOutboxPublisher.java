@@ -0,0 +1,47 @@
+package com.nearsplit.common.outbox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * packageName  : com.nearsplit.common.outbox
+ * fileName     : LocalOutboxPublisher
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : Kafka 미사용 환경(outbox.kafka.enabled=false) 발행기
+ *                  - 브로커 없이 같은 프로세스의 핸들러에게 바로 전달 (로컬 개발 / 단일 인스턴스)
+ *                  - 이벤트마다 별도 트랜잭션으로 전달, 실패한 이벤트만 결과에 담음
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ * 2026-10-17(토)                user            이벤트별 성공/실패 판정
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.kafka.enabled", havingValue = "false", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class LocalOutboxPublisher implements OutboxPublisher {
+    private final OutboxEventDispatcher outboxEventDispatcher;
+
+    @Override
+    public Map<OutboxEvent, String> publish(List<OutboxEvent> events) {
+        Map<OutboxEvent, String> failures = new IdentityHashMap<>();
+        for (OutboxEvent event : events) {
+            try {
+                outboxEventDispatcher.dispatch(OutboxEnvelope.from(event));
+            } catch (RuntimeException e) {
+                log.warn("아웃박스 이벤트 처리 실패: eventId={}, type={}, message={}",
+                        event.getId(), event.getEventType(), e.getMessage());
+                failures.put(event, e.getMessage());
+            }
+        }
+        return failures;
+    }
+}
@@ -0,0 +1,35 @@
+package com.nearsplit.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.time.LocalDateTime;
+
+/**
+ * packageName  : com.nearsplit.common.outbox
+ * fileName     : OutboxEnvelope
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 발행되는 이벤트 메시지 (Kafka value / 로컬 전달 공통 형식)
+ *                  - eventId 는 아웃박스 PK → 재발행(at-least-once) 시 중복 판별용
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+public record OutboxEnvelope(Long eventId, OutboxEventType eventType, Long aggregateId,
+                             String payload, LocalDateTime occurredAt) {
+
+    public static OutboxEnvelope from(OutboxEvent event) {
+        return new OutboxEnvelope(event.getId(), event.getEventType(), event.getAggregateId(),
+                event.getPayload(), event.getCreatedAt());
+    }
+
+    public <T> T payloadAs(ObjectMapper objectMapper, Class<T> type) {
+        try {
+            return objectMapper.readValue(payload, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("이벤트 역직렬화 실패: eventId=" + eventId, e);
+        }
+    }
+}
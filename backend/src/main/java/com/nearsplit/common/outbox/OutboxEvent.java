@@ -0,0 +1,86 @@
+package com.nearsplit.common.outbox;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * packageName  : com.nearsplit.common.outbox
+ * fileName     : OutboxEvent
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 트랜잭셔널 아웃박스 이벤트
+ *                  - 도메인 변경과 같은 트랜잭션에서 저장 → 커밋된 변경에 대해서만 이벤트 존재
+ *                  - OutboxRelay 가 PENDING 이벤트를 모아서 발행 (서버가 죽어도 재기동 후 이어서 발행)
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+@Entity
+@Table(name = "outbox_event",
+        indexes = @Index(name = "idx_outbox_event_status_id", columnList = "status, id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class OutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private OutboxEventType eventType;      // 이벤트 종류 (토픽 결정)
+
+    @Column(nullable = false)
+    private Long aggregateId;               // 그룹 ID / 결제 ID 등 (메시지 키)
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;                 // 이벤트 내용 (JSON)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxStatus status;
+
+    private int attempts;                   // 발행 시도 횟수
+    @Column(length = 500)
+    private String lastError;               // 마지막 실패 사유
+
+    @CreatedDate
+    private LocalDateTime createdAt;
+    private LocalDateTime publishedAt;
+
+    public static OutboxEvent create(OutboxEventType eventType, Long aggregateId, String payload) {
+        OutboxEvent event = new OutboxEvent();
+        event.eventType = eventType;
+        event.aggregateId = aggregateId;
+        event.payload = payload;
+        event.status = OutboxStatus.PENDING;
+        return event;
+    }
+
+    // ========================================
+    // 도메인 메서드
+    // ========================================
+
+    public void markPublished() {
+        this.status = OutboxStatus.PUBLISHED;
+        this.publishedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 발행 실패 기록 - 최대 시도 횟수 도달 시 FAILED (더 이상 재시도 X)
+     */
+    public void markFailedAttempt(String error, int maxAttempts) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        if (this.attempts >= maxAttempts) {
+            this.status = OutboxStatus.FAILED;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.nearsplit.common.outbox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * packageName  : com.nearsplit.common.outbox
+ * fileName     : OutboxEventDispatcher
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 수신한 이벤트를 해당 종류를 처리하는 핸들러들에게 전달
+ *                  - 핸들러 실패가 호출부(릴레이/컨슈머) 트랜잭션을 롤백 전용으로 만들지 않도록 별도 트랜잭션
+ *                  - 핸들러별 처리 기록(ProcessedOutboxEvent)으로 이미 처리한 이벤트는 건너뜀 (재시도/재전달 중복 방지)
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ * 2026-10-17(토)                user            이벤트 ID 기준 중복 처리 방지
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxEventDispatcher {
+    private final List<OutboxEventHandler> handlers;
+    private final ProcessedOutboxEventRepository processedOutboxEventRepository;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void dispatch(OutboxEnvelope envelope) {
+        for (OutboxEventHandler handler : handlers) {
+            if (handler.supportedTypes().contains(envelope.eventType())) {
+                handleOnce(handler, envelope);
+            }
+        }
+    }
+
+    // ========================================
+    // 내부 메서드
+    // ========================================
+
+    private void handleOnce(OutboxEventHandler handler, OutboxEnvelope envelope) {
+        String consumer = handler.getClass().getSimpleName();
+        if (envelope.eventId() != null) {
+            if (processedOutboxEventRepository.existsByEventIdAndConsumer(envelope.eventId(), consumer)) {
+                log.debug("이미 처리한 아웃박스 이벤트 건너뜀: eventId={}, consumer={}", envelope.eventId(), consumer);
+                return;
+            }
+            // 처리 전에 기록 → 동시에 같은 이벤트를 처리하면 유니크 제약 위반으로 한쪽만 커밋
+            processedOutboxEventRepository.saveAndFlush(ProcessedOutboxEvent.of(envelope.eventId(), consumer));
+        }
+        handler.handle(envelope);
+    }
+}
@@ -0,0 +1,14 @@
+package com.nearsplit.common.outbox;
+
+import java.util.Set;
+
+/**
+ * 발행된 도메인 이벤트 처리기 (알림 생성, WebSocket 전송 등)
+ * - 같은 이벤트가 두 번 이상 전달될 수 있음 (at-least-once)
+ */
+public interface OutboxEventHandler {
+
+    Set<OutboxEventType> supportedTypes();
+
+    void handle(OutboxEnvelope envelope);
+}
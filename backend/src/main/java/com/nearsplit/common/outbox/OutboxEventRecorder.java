@@ -0,0 +1,37 @@
+package com.nearsplit.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * packageName  : com.nearsplit.common.outbox
+ * fileName     : OutboxEventRecorder
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 서비스에서 도메인 이벤트 기록 (아웃박스 테이블 저장)
+ *                  - 반드시 호출부 트랜잭션 안에서 호출 (MANDATORY) → 도메인 변경과 함께 커밋/롤백
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventRecorder {
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(OutboxEventType eventType, Long aggregateId, Object payload) {
+        try {
+            String json = objectMapper.writeValueAsString(payload);
+            outboxEventRepository.save(OutboxEvent.create(eventType, aggregateId, json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("이벤트 직렬화 실패: " + eventType, e);
+        }
+    }
+}
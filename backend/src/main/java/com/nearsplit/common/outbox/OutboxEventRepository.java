@@ -0,0 +1,30 @@
+package com.nearsplit.common.outbox;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 발행 대기 이벤트 (오래된 순) - 다른 인스턴스가 잡고 있는 행은 건너뜀 (lock.timeout -2 = SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM OutboxEvent e WHERE e.status = com.nearsplit.common.outbox.OutboxStatus.PENDING ORDER BY e.id ASC")
+    List<OutboxEvent> findPendingForUpdate(Pageable pageable);
+
+    // 발행 완료 후 보관 기간 지난 이벤트 정리
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.status = com.nearsplit.common.outbox.OutboxStatus.PUBLISHED AND e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,42 @@
+package com.nearsplit.common.outbox;
+
+import lombok.Getter;
+
+/**
+ * packageName  : com.nearsplit.common.outbox
+ * fileName     : OutboxEventType
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 도메인 이벤트 종류 + 발행할 Kafka 토픽
+ *                  - 메시지 키는 aggregateId → 같은 그룹/결제의 이벤트는 같은 파티션에서 순서 보장
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+@Getter
+public enum OutboxEventType {
+    // 소분 그룹
+    SPLIT_GROUP_JOIN_REQUESTED(OutboxEventType.SPLIT_GROUP_TOPIC),     // 참여 신청
+    SPLIT_GROUP_PARTICIPANT_APPROVED(OutboxEventType.SPLIT_GROUP_TOPIC),   // 참여 승인
+    SPLIT_GROUP_PARTICIPANT_REJECTED(OutboxEventType.SPLIT_GROUP_TOPIC),   // 참여 거절
+    SPLIT_GROUP_FULL(OutboxEventType.SPLIT_GROUP_TOPIC),               // 모집 완료
+    SPLIT_GROUP_CLOSED(OutboxEventType.SPLIT_GROUP_TOPIC),             // 마감일 경과로 모집 마감
+
+    // 결제
+    PAYMENT_CONFIRMED(OutboxEventType.PAYMENT_TOPIC),                  // 결제 승인
+    PAYMENT_CANCELED(OutboxEventType.PAYMENT_TOPIC),                   // 결제 취소
+
+    // 채팅
+    CHAT_MESSAGE_SENT(OutboxEventType.CHAT_TOPIC);                     // 채팅 메시지 전송
+
+    public static final String SPLIT_GROUP_TOPIC = "nearsplit.split-group.events";
+    public static final String PAYMENT_TOPIC = "nearsplit.payment.events";
+    public static final String CHAT_TOPIC = "nearsplit.chat.events";
+
+    private final String topic;
+
+    OutboxEventType(String topic) {
+        this.topic = topic;
+    }
+}
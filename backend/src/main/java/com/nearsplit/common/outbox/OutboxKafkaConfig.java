@@ -0,0 +1,42 @@
+package com.nearsplit.common.outbox;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+/**
+ * packageName  : com.nearsplit.common.outbox
+ * fileName     : OutboxKafkaConfig
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 도메인 이벤트 토픽 생성 (outbox.kafka.enabled=true 일 때만)
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+@Configuration
+@ConditionalOnProperty(name = "outbox.kafka.enabled", havingValue = "true")
+public class OutboxKafkaConfig {
+
+    @Value("${outbox.kafka.partitions:3}")
+    private int partitions;
+
+    @Bean
+    public NewTopic splitGroupEventTopic() {
+        return TopicBuilder.name(OutboxEventType.SPLIT_GROUP_TOPIC).partitions(partitions).build();
+    }
+
+    @Bean
+    public NewTopic paymentEventTopic() {
+        return TopicBuilder.name(OutboxEventType.PAYMENT_TOPIC).partitions(partitions).build();
+    }
+
+    @Bean
+    public NewTopic chatEventTopic() {
+        return TopicBuilder.name(OutboxEventType.CHAT_TOPIC).partitions(partitions).build();
+    }
+}
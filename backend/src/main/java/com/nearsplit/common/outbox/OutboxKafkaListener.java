@@ -0,0 +1,38 @@
+package com.nearsplit.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * packageName  : com.nearsplit.common.outbox
+ * fileName     : OutboxKafkaListener
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : Kafka 로 발행된 도메인 이벤트 수신 → 핸들러 전달
+ *                  - 처리 중 예외 발생 시 오프셋 커밋 X → 재전달 (기본 에러 핸들러 재시도)
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.kafka.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxKafkaListener {
+    private final OutboxEventDispatcher outboxEventDispatcher;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(topics = {OutboxEventType.SPLIT_GROUP_TOPIC, OutboxEventType.PAYMENT_TOPIC, OutboxEventType.CHAT_TOPIC},
+            groupId = "${spring.kafka.consumer.group-id:nearsplit-consumer}")
+    public void onMessage(String message) throws JsonProcessingException {
+        OutboxEnvelope envelope = objectMapper.readValue(message, OutboxEnvelope.class);
+        log.debug("도메인 이벤트 수신: eventId={}, type={}", envelope.eventId(), envelope.eventType());
+        outboxEventDispatcher.dispatch(envelope);
+    }
+}
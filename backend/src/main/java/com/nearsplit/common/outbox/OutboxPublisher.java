@@ -0,0 +1,14 @@
+package com.nearsplit.common.outbox;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 아웃박스 이벤트 발행
+ * - 이벤트마다 성공/실패를 따로 판정 (한 건 실패가 같은 묶음의 다른 이벤트 재발행/FAILED 로 번지지 않도록)
+ * @return 실패한 이벤트 → 실패 사유 (성공한 이벤트는 포함 X, 전부 성공이면 빈 Map)
+ */
+public interface OutboxPublisher {
+
+    Map<OutboxEvent, String> publish(List<OutboxEvent> events);
+}
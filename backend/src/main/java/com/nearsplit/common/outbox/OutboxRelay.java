@@ -0,0 +1,87 @@
+package com.nearsplit.common.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * packageName  : com.nearsplit.common.outbox
+ * fileName     : OutboxRelay
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : PENDING 아웃박스 이벤트를 묶음 단위로 발행
+ *                  - SKIP LOCKED 로 조회 → 여러 인스턴스가 동시에 돌아도 같은 이벤트를 나눠 가지지 않음
+ *                  - 이벤트마다 발행 결과 기록 : 성공 → PUBLISHED, 실패 → 그 이벤트만 시도 횟수 증가 (최대 횟수 초과 시 FAILED)
+ *                  - 처리 완료 기록(outbox_processed_event)도 같은 보관 기간으로 정리
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ * 2026-10-17(토)                user            이벤트별 발행 결과 기록
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+    private final OutboxEventRepository outboxEventRepository;
+    private final ProcessedOutboxEventRepository processedOutboxEventRepository;
+    private final OutboxPublisher outboxPublisher;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final int retentionDays;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       ProcessedOutboxEventRepository processedOutboxEventRepository,
+                       OutboxPublisher outboxPublisher,
+                       @Value("${outbox.relay.batch-size:100}") int batchSize,
+                       @Value("${outbox.relay.max-attempts:10}") int maxAttempts,
+                       @Value("${outbox.relay.retention-days:7}") int retentionDays) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.processedOutboxEventRepository = processedOutboxEventRepository;
+        this.outboxPublisher = outboxPublisher;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retentionDays = retentionDays;
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:1000}")
+    @Transactional
+    public void relay() {
+        List<OutboxEvent> events = outboxEventRepository.findPendingForUpdate(PageRequest.of(0, batchSize));
+        if (events.isEmpty()) {
+            return;
+        }
+
+        Map<OutboxEvent, String> failures = outboxPublisher.publish(events);
+        for (OutboxEvent event : events) {
+            String error = failures.get(event);
+            if (error == null) {
+                event.markPublished();
+            } else {
+                event.markFailedAttempt(error, maxAttempts);
+            }
+        }
+        if (failures.isEmpty()) {
+            log.debug("아웃박스 이벤트 발행: count={}", events.size());
+        } else {
+            log.warn("아웃박스 이벤트 일부 발행 실패 - 실패한 이벤트만 다음 주기에 재시도: published={}, failed={}",
+                    events.size() - failures.size(), failures.size());
+        }
+    }
+
+    // 매일 새벽 발행 완료 이벤트 정리
+    @Scheduled(cron = "${outbox.relay.cleanup-cron:0 30 4 * * *}")
+    @Transactional
+    public void cleanup() {
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+        int deleted = outboxEventRepository.deletePublishedBefore(before);
+        int processedDeleted = processedOutboxEventRepository.deleteProcessedBefore(before);
+        log.info("발행 완료 아웃박스 이벤트 정리: deleted={}, processedDeleted={}", deleted, processedDeleted);
+    }
+}
@@ -0,0 +1,18 @@
+package com.nearsplit.common.outbox;
+
+/**
+ * packageName  : com.nearsplit.common.outbox
+ * fileName     : OutboxStatus
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 아웃박스 이벤트 발행 상태
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+public enum OutboxStatus {
+    PENDING,        // 발행 대기
+    PUBLISHED,      // 발행 완료
+    FAILED          // 최대 재시도 초과 (수동 확인 필요)
+}
@@ -0,0 +1,50 @@
+package com.nearsplit.common.outbox;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * packageName  : com.nearsplit.common.outbox
+ * fileName     : ProcessedOutboxEvent
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 핸들러별 처리 완료 이벤트 기록 (멱등 처리용)
+ *                  - (event_id, consumer) 유니크 → 릴레이 재시도 / Kafka 재전달로 같은 이벤트가 다시 와도 한 번만 처리
+ *                  - 핸들러 처리와 같은 트랜잭션에서 저장 → 처리 실패 시 기록도 롤백되어 재시도 가능
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+@Entity
+@Table(name = "outbox_processed_event",
+        uniqueConstraints = @UniqueConstraint(name = "uk_outbox_processed_event_consumer", columnNames = {"event_id", "consumer"}),
+        indexes = @Index(name = "idx_outbox_processed_event_processed_at", columnList = "processed_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProcessedOutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;           // outbox_event.id
+
+    @Column(nullable = false, length = 100)
+    private String consumer;        // 처리한 핸들러 이름
+
+    @Column(name = "processed_at", nullable = false)
+    private LocalDateTime processedAt;
+
+    public static ProcessedOutboxEvent of(Long eventId, String consumer) {
+        ProcessedOutboxEvent processed = new ProcessedOutboxEvent();
+        processed.eventId = eventId;
+        processed.consumer = consumer;
+        processed.processedAt = LocalDateTime.now();
+        return processed;
+    }
+}
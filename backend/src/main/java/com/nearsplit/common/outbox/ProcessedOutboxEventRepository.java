@@ -0,0 +1,20 @@
+package com.nearsplit.common.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ProcessedOutboxEventRepository extends JpaRepository<ProcessedOutboxEvent, Long> {
+
+    boolean existsByEventIdAndConsumer(Long eventId, String consumer);
+
+    // 보관 기간 지난 처리 기록 정리 (원본 이벤트 정리와 같은 기간)
+    @Modifying
+    @Query("DELETE FROM ProcessedOutboxEvent p WHERE p.processedAt < :before")
+    int deleteProcessedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,69 @@
+package com.nearsplit.common.scheduling;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * packageName  : com.nearsplit.common.scheduling
+ * fileName     : SchedulerLease
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 여러 인스턴스 중 한 곳에서만 스케줄 작업을 실행하기 위한 DB 임대(lease)
+ *                  - scheduler_lock 행의 만료 시각을 조건부 UPDATE 로 가져감 (한 문장이라 동시에 둘이 가져갈 수 없음)
+ *                  - 행이 없으면 INSERT, 동시에 INSERT 하면 PK 충돌난 쪽이 실패
+ *                  - 각 문장은 자체 커밋 → 임대 확보가 작업 트랜잭션과 묶이지 않음
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+@Component
+@Slf4j
+public class SchedulerLease {
+    private final JdbcTemplate jdbcTemplate;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private static final String ACQUIRE_SQL = """
+            UPDATE scheduler_lock SET locked_until = ?, locked_by = ?
+            WHERE name = ? AND (locked_until <= ? OR locked_by = ?)
+            """;
+    private static final String INSERT_SQL = "INSERT INTO scheduler_lock (name, locked_until, locked_by) VALUES (?, ?, ?)";
+    private static final String RELEASE_SQL = "UPDATE scheduler_lock SET locked_until = ? WHERE name = ? AND locked_by = ?";
+
+    public SchedulerLease(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 임대 확보 시도
+     * @param leaseTime 작업이 이 시간 안에 끝나지 않으면 다른 인스턴스가 가져갈 수 있음 (작업 최대 실행 시간보다 길게)
+     * @return 확보 성공 여부 (false 면 다른 인스턴스가 실행 중)
+     */
+    public boolean tryAcquire(String name, Duration leaseTime) {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp lockedUntil = Timestamp.valueOf(now.plus(leaseTime));
+        int updated = jdbcTemplate.update(ACQUIRE_SQL, lockedUntil, instanceId, name, Timestamp.valueOf(now), instanceId);
+        if (updated > 0) {
+            return true;
+        }
+        try {
+            jdbcTemplate.update(INSERT_SQL, name, lockedUntil, instanceId);
+            return true;
+        } catch (DuplicateKeyException e) {
+            log.debug("스케줄 작업 임대 실패 (다른 인스턴스 실행 중): name={}", name);
+            return false;
+        }
+    }
+
+    // 작업 종료 → 만료 시각을 현재로 당겨서 다음 실행 때 어느 인스턴스든 바로 가져갈 수 있게
+    public void release(String name) {
+        jdbcTemplate.update(RELEASE_SQL, Timestamp.valueOf(LocalDateTime.now()), name, instanceId);
+    }
+}
@@ -0,0 +1,40 @@
+package com.nearsplit.common.scheduling;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * packageName  : com.nearsplit.common.scheduling
+ * fileName     : SchedulerLock
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 스케줄 작업 임대(lease) 행 - 작업 이름당 1행
+ *                  - lockedUntil 이 지나기 전까지는 lockedBy 인스턴스만 작업 실행
+ *                  - 읽기/갱신은 SchedulerLease 가 JDBC 로 처리 (엔티티는 dev 스키마 생성용)
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+@Entity
+@Table(name = "scheduler_lock")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SchedulerLock {
+    @Id
+    @Column(length = 100)
+    private String name;                    // 작업 이름
+
+    @Column(nullable = false)
+    private LocalDateTime lockedUntil;      // 임대 만료 시각 (인스턴스가 죽어도 이 시각 이후 다른 인스턴스가 가져감)
+
+    @Column(nullable = false, length = 100)
+    private String lockedBy;                // 임대 중인 인스턴스
+}
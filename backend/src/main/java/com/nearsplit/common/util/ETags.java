@@ -0,0 +1,58 @@
+package com.nearsplit.common.util;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * packageName  : com.nearsplit.common.util
+ * fileName     : ETags
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 버전 값들로 ETag 값 생성 (조건부 GET - If-None-Match / 304 용)
+ *                  - 따옴표는 붙이지 않음 (WebRequest.checkNotModified / ResponseEntity.eTag 가 강한 ETag 로 감쌈)
+ *                  - 같은 구성 값이면 항상 같은 문자열 → 본문 직렬화 없이 버전 조회만으로 비교 가능
+ *                  - 사용자별 응답이므로 private + no-cache (저장은 하되 매번 재검증)
+ *                    → Cache-Control 을 직접 지정해야 Spring Security 기본값(no-store)이 붙지 않음
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+public final class ETags {
+
+    public static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private ETags() {
+    }
+
+    // 304 응답 (200 응답과 같은 캐시 헤더 유지)
+    public static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .cacheControl(CACHE_CONTROL)
+                .eTag(etag)
+                .build();
+    }
+
+    public static String of(Object... parts) {
+        return Arrays.stream(parts)
+                .map(ETags::format)
+                .collect(Collectors.joining("-"));
+    }
+
+    // null 은 0, 시각은 UTC 기준 마이크로초 (DB timestamp 정밀도)
+    private static String format(Object part) {
+        if (part == null) {
+            return "0";
+        }
+        if (part instanceof LocalDateTime time) {
+            return Long.toString(time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000);
+        }
+        return part.toString();
+    }
+}
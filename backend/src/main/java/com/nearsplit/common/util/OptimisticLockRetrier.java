@@ -0,0 +1,83 @@
+package com.nearsplit.common.util;
+
+import com.nearsplit.common.exception.BusinessException;
+import com.nearsplit.common.exception.ErrorCode;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * packageName  : com.nearsplit.common.util
+ * fileName     : OptimisticLockRetrier
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 낙관적 락(@Version) 충돌 시 재시도
+ *                  - action 은 트랜잭션 서비스 메서드 호출 (트랜잭션 밖에서 호출해야 시도마다 새 트랜잭션)
+ *                  - 재시도 시 엔티티를 다시 읽고 도메인 검증도 다시 수행됨 (예: 그 사이 정원 마감 → 검증 예외)
+ *                  - 최대 횟수를 넘기면 409 (CONCURRENT_MODIFICATION)
+ *                  - 충돌한 엔티티는 2차 캐시에서 제거 후 재시도 (다른 인스턴스 변경으로 캐시 버전이 낡은 경우 같은 충돌 반복 방지)
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ * 2026-10-17(토)                user            충돌 엔티티 2차 캐시 제거
+ */
+@Component
+@Slf4j
+public class OptimisticLockRetrier {
+    private final EntityManagerFactory entityManagerFactory;
+    private final int maxAttempts;
+    private final long backoffMs;
+
+    public OptimisticLockRetrier(EntityManagerFactory entityManagerFactory,
+                                 @Value("${optimistic-lock.retry.max-attempts:3}") int maxAttempts,
+                                 @Value("${optimistic-lock.retry.backoff-ms:20}") long backoffMs) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.maxAttempts = Math.max(maxAttempts, 1);
+        this.backoffMs = Math.max(backoffMs, 0);
+    }
+
+    public <T> T execute(Supplier<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    log.warn("낙관적 락 충돌 재시도 초과: attempts={}, {}", attempt, e.getMessage());
+                    throw new BusinessException(ErrorCode.CONCURRENT_MODIFICATION);
+                }
+                log.debug("낙관적 락 충돌 - 재시도 {}/{}", attempt, maxAttempts);
+                evictFromCache(e);
+                backoff(attempt);
+            }
+        }
+    }
+
+    // 재시도 때 findById 가 2차 캐시의 낡은 버전을 다시 읽지 않도록
+    private void evictFromCache(OptimisticLockingFailureException e) {
+        if (e instanceof ObjectOptimisticLockingFailureException failure
+                && failure.getPersistentClass() != null && failure.getIdentifier() != null) {
+            entityManagerFactory.getCache().evict(failure.getPersistentClass(), failure.getIdentifier());
+        }
+    }
+
+    // 시도 횟수에 비례한 대기 + 지터 (같은 행을 노리는 요청들이 다시 동시에 부딪히지 않도록)
+    private void backoff(int attempt) {
+        if (backoffMs == 0) {
+            return;
+        }
+        long delay = backoffMs * attempt + ThreadLocalRandom.current().nextLong(backoffMs);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.CONCURRENT_MODIFICATION);
+        }
+    }
+}
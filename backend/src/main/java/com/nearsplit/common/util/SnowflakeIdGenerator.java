@@ -0,0 +1,107 @@
+package com.nearsplit.common.util;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.function.LongSupplier;
+
+/**
+ * packageName  : com.nearsplit.common.util
+ * fileName     : SnowflakeIdGenerator
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 시간순 정렬되는 ID 생성 (Snowflake 방식, DB 왕복 없이 ID 선발급)
+ *                  - [41bit 타임스탬프(ms, 2026-01-01 기준)][5bit 워커][7bit 시퀀스] = 53bit
+ *                  - 53bit 로 제한 → 프론트(JS Number)에서 정밀도 손실 없음
+ *                  - 같은 ms 안에서 128개 초과 시 다음 ms 까지 대기, 시계가 뒤로 가면 마지막 시각 기준으로 계속 발급
+ *                  - id-generator.worker-id 는 인스턴스마다 달라야 함 (같으면 PK 충돌)
+ *                    → 미설정 시 dev 프로필에서만 0 사용, 그 외 프로필은 기동 실패
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ * 2026-10-17(토)                user            dev 외 프로필에서 worker-id 필수
+ */
+@Component
+@Slf4j
+public class SnowflakeIdGenerator {
+
+    private static final long EPOCH_MILLIS = Instant.parse("2026-01-01T00:00:00Z").toEpochMilli();
+    private static final int WORKER_BITS = 5;
+    private static final int SEQUENCE_BITS = 7;
+    private static final long MAX_WORKER_ID = (1L << WORKER_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long workerId;
+    private final LongSupplier clock;
+
+    private long lastTimestamp = -1L;
+    private long sequence = 0L;
+
+    @Autowired
+    public SnowflakeIdGenerator(@Value("${id-generator.worker-id:#{null}}") Long workerId, Environment environment) {
+        this(resolveWorkerId(workerId, environment), System::currentTimeMillis);
+    }
+
+    public SnowflakeIdGenerator(long workerId, LongSupplier clock) {
+        if (workerId < 0 || workerId > MAX_WORKER_ID) {
+            throw new IllegalArgumentException("worker-id 는 0 ~ " + MAX_WORKER_ID + " 범위여야 합니다: " + workerId);
+        }
+        this.workerId = workerId;
+        this.clock = clock;
+    }
+
+    private static long resolveWorkerId(Long workerId, Environment environment) {
+        if (workerId != null) {
+            return workerId;
+        }
+        if (!environment.acceptsProfiles(Profiles.of("dev"))) {
+            throw new IllegalStateException("id-generator.worker-id 미설정 - 인스턴스마다 다른 값(0 ~ " + MAX_WORKER_ID + ")을 지정해야 합니다");
+        }
+        log.warn("id-generator.worker-id 미설정 - dev 프로필이므로 0 사용 (인스턴스 1개일 때만 안전)");
+        return 0L;
+    }
+
+    public synchronized long nextId() {
+        long timestamp = Math.max(clock.getAsLong(), lastTimestamp);
+
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                timestamp = waitNextMillis(lastTimestamp);
+            }
+        } else {
+            sequence = 0L;
+        }
+
+        lastTimestamp = timestamp;
+        return ((timestamp - EPOCH_MILLIS) << (WORKER_BITS + SEQUENCE_BITS))
+                | (workerId << SEQUENCE_BITS)
+                | sequence;
+    }
+
+    // 이번 ms 시퀀스 소진 → 다음 ms 까지 대기 (시계가 뒤에 있으면 논리 시각만 한 칸 전진)
+    private long waitNextMillis(long last) {
+        long now = clock.getAsLong();
+        if (now < last) {
+            return last + 1;
+        }
+        while (now <= last) {
+            Thread.onSpinWait();
+            now = clock.getAsLong();
+        }
+        return now;
+    }
+
+    /**
+     * ID 에 담긴 생성 시각(ms)
+     */
+    public static long timestampOf(long id) {
+        return (id >>> (WORKER_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS;
+    }
+}
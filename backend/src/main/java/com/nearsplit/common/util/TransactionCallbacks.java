@@ -0,0 +1,36 @@
+package com.nearsplit.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * packageName  : com.nearsplit.common.util
+ * fileName     : TransactionCallbacks
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 트랜잭션 커밋 이후에 실행할 작업 등록 (메모리 인덱스/캐시 갱신용)
+ *                  - 롤백된 변경이 메모리에 반영되지 않도록 커밋 후에만 실행
+ *                  - 트랜잭션 밖에서 호출되면 즉시 실행
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,30 @@
+package com.nearsplit.common.websocket;
+
+import java.util.function.Consumer;
+
+/**
+ * packageName  : com.nearsplit.common.websocket
+ * fileName     : BrokerBackplane
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 인스턴스 간 STOMP 브로드캐스트 전달 통로 (websocket.broker.mode)
+ *                  - simple : 사용 안 함 (단일 인스턴스, 같은 JVM 구독자에게만 전달)
+ *                  - memory : 같은 JVM 안에서만 왕복 (로컬 개발 / 테스트용 대체 구현)
+ *                  - redis  : Redis pub/sub 으로 모든 인스턴스에 전달
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+public interface BrokerBackplane {
+
+    /**
+     * 모든 인스턴스(자기 자신 포함)에 전달
+     */
+    void publish(BrokerMessageEnvelope envelope);
+
+    /**
+     * 다른 인스턴스(자기 자신 포함)에서 발행한 메시지 수신 등록
+     */
+    void subscribe(Consumer<BrokerMessageEnvelope> listener);
+}
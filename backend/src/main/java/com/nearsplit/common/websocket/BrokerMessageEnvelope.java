@@ -0,0 +1,20 @@
+package com.nearsplit.common.websocket;
+
+/**
+ * packageName  : com.nearsplit.common.websocket
+ * fileName     : BrokerMessageEnvelope
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 인스턴스 간 전달되는 STOMP 메시지 (목적지 + 변환이 끝난 본문)
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+public record BrokerMessageEnvelope(
+        String destination,         // /topic/...
+        String contentType,         // application/json 등 (없으면 null)
+        byte[] payload,             // 메시지 변환기(Jackson)를 거친 본문
+        String originId             // 발행 인스턴스 식별자 (로그/추적용)
+) {
+}
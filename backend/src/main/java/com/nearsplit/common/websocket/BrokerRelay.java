@@ -0,0 +1,117 @@
+package com.nearsplit.common.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import java.util.UUID;
+
+/**
+ * packageName  : com.nearsplit.common.websocket
+ * fileName     : BrokerRelay
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 브로커 채널 인터셉터 - /topic 메시지를 다른 인스턴스로 중계
+ *                  - 보내는 쪽: 로컬 구독자에게 그대로 전달 + 백플레인에 발행
+ *                  - 받는 쪽  : 다른 인스턴스가 발행한 메시지를 로컬 브로커 채널로 재전송 (재발행 방지 헤더 표시)
+ *                  - @SendTo / SimpMessagingTemplate 모두 브로커 채널을 거치므로 호출부 변경 없음
+ *                  - 백플레인이 없으면(simple) 아무것도 하지 않음
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+@Component
+@Slf4j
+public class BrokerRelay implements ChannelInterceptor, SmartInitializingSingleton {
+    static final String RELAYED_HEADER = "nearsplitRelayed";
+    private static final String RELAY_PREFIX = "/topic/";
+
+    private final BrokerBackplane backplane;
+    private final MessageChannel brokerChannel;
+    private final String instanceId;
+
+    @Autowired
+    public BrokerRelay(ObjectProvider<BrokerBackplane> backplaneProvider,
+                       @Lazy @Qualifier("brokerChannel") MessageChannel brokerChannel) {
+        this(backplaneProvider.getIfAvailable(), brokerChannel, UUID.randomUUID().toString());
+    }
+
+    BrokerRelay(BrokerBackplane backplane, MessageChannel brokerChannel, String instanceId) {
+        this.backplane = backplane;
+        this.brokerChannel = brokerChannel;
+        this.instanceId = instanceId;
+    }
+
+    public boolean isEnabled() {
+        return backplane != null;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (backplane != null) {
+            backplane.subscribe(this::deliverLocally);
+            log.info("WebSocket 브로커 백플레인 사용: {}, instanceId={}", backplane.getClass().getSimpleName(), instanceId);
+        }
+    }
+
+    // ========================================
+    // 보내는 쪽
+    // ========================================
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (backplane == null) {
+            return message;
+        }
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        String destination = accessor.getDestination();
+        if (accessor.getMessageType() != SimpMessageType.MESSAGE
+                || destination == null || !destination.startsWith(RELAY_PREFIX)
+                || Boolean.TRUE.equals(accessor.getHeader(RELAYED_HEADER))
+                || !(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+
+        try {
+            MimeType contentType = accessor.getContentType();
+            backplane.publish(new BrokerMessageEnvelope(destination,
+                    contentType != null ? contentType.toString() : null, payload, instanceId));
+        } catch (RuntimeException e) {
+            // 백플레인 장애 → 같은 인스턴스 구독자에게는 그대로 전달
+            log.warn("브로커 백플레인 발행 실패 - 로컬 구독자에게만 전달: destination={}, message={}", destination, e.getMessage());
+        }
+        return message;
+    }
+
+    // ========================================
+    // 받는 쪽
+    // ========================================
+
+    void deliverLocally(BrokerMessageEnvelope envelope) {
+        if (instanceId.equals(envelope.originId())) {
+            return;     // 자기 자신이 보낸 메시지는 이미 로컬 전달 완료
+        }
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(envelope.destination());
+        if (envelope.contentType() != null) {
+            accessor.setContentType(MimeType.valueOf(envelope.contentType()));
+        }
+        accessor.setHeader(RELAYED_HEADER, true);
+        MessageHeaders headers = accessor.getMessageHeaders();
+
+        brokerChannel.send(MessageBuilder.createMessage(envelope.payload(), headers));
+    }
+}
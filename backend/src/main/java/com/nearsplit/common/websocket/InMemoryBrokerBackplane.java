@@ -0,0 +1,36 @@
+package com.nearsplit.common.websocket;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * packageName  : com.nearsplit.common.websocket
+ * fileName     : InMemoryBrokerBackplane
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 외부 저장소 없는 백플레인 (websocket.broker.mode=memory)
+ *                  - Redis 없이 릴레이 경로(발행 → 수신 → 로컬 브로커 재전달)를 그대로 확인하기 위한 대체 구현
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+@Component
+@ConditionalOnProperty(name = "websocket.broker.mode", havingValue = "memory")
+public class InMemoryBrokerBackplane implements BrokerBackplane {
+    private final List<Consumer<BrokerMessageEnvelope>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(BrokerMessageEnvelope envelope) {
+        listeners.forEach(listener -> listener.accept(envelope));
+    }
+
+    @Override
+    public void subscribe(Consumer<BrokerMessageEnvelope> listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,77 @@
+package com.nearsplit.common.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * packageName  : com.nearsplit.common.websocket
+ * fileName     : RedisBrokerBackplane
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : Redis pub/sub 백플레인 (websocket.broker.mode=redis)
+ *                  - 모든 인스턴스가 같은 채널을 구독 → 어느 인스턴스에서 보낸 메시지든 전체 구독자에게 전달
+ *                  - pub/sub 은 저장하지 않음 (접속 중인 구독자 전달용, 유실 시 재조회 API 로 보완)
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+@Component
+@ConditionalOnProperty(name = "websocket.broker.mode", havingValue = "redis")
+@Slf4j
+public class RedisBrokerBackplane implements BrokerBackplane {
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ChannelTopic topic;
+
+    public RedisBrokerBackplane(StringRedisTemplate redisTemplate,
+                                RedisConnectionFactory connectionFactory,
+                                ObjectMapper objectMapper,
+                                @Value("${websocket.broker.redis-channel:nearsplit:ws:broadcast}") String channel) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.topic = new ChannelTopic(channel);
+        this.listenerContainer = new RedisMessageListenerContainer();
+        this.listenerContainer.setConnectionFactory(connectionFactory);
+        this.listenerContainer.afterPropertiesSet();
+        this.listenerContainer.start();
+    }
+
+    @PreDestroy
+    void stop() throws Exception {
+        listenerContainer.destroy();
+    }
+
+    @Override
+    public void publish(BrokerMessageEnvelope envelope) {
+        try {
+            redisTemplate.convertAndSend(topic.getTopic(), objectMapper.writeValueAsString(envelope));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("브로커 메시지 직렬화 실패: " + envelope.destination(), e);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<BrokerMessageEnvelope> listener) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            try {
+                listener.accept(objectMapper.readValue(message.getBody(), BrokerMessageEnvelope.class));
+            } catch (IOException e) {
+                log.warn("브로커 메시지 역직렬화 실패: {}", e.getMessage());
+            }
+        }, topic);
+    }
+}
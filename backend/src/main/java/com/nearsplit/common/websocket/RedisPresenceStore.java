@@ -0,0 +1,143 @@
+package com.nearsplit.common.websocket;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * packageName  : com.nearsplit.common.websocket
+ * fileName     : RedisPresenceStore
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 인스턴스 간 공유 접속 여부 (websocket.broker.mode=redis)
+ *                  - 사용자별 hash 에 인스턴스별 연결 세션 수 기록 (필드 = 인스턴스 ID, 연결 +1 / 해제 -1)
+ *                  - 인스턴스마다 생존 키를 heartbeat-seconds 주기로 갱신 (만료 = 주기 x 3)
+ *                    → 생존 키가 없는 인스턴스(비정상 종료)의 세션 수는 무시 (TTL 까지 남아 있어도 온라인으로 보지 않음)
+ *                  - 같은 주기로 로컬 사용자 hash 의 TTL 연장 + 세션 수 다시 기록 → 오래 연결된 사용자도 유지, Redis 재시작 후 복구
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ * 2026-10-17(토)                user            인스턴스별 세션 수 + 생존 키 (장시간 연결 / 비정상 종료 인스턴스 처리)
+ */
+@Component
+@ConditionalOnProperty(name = "websocket.broker.mode", havingValue = "redis")
+public class RedisPresenceStore {
+    private static final String USER_KEY_PREFIX = "ws:presence:user:";
+    private static final String INSTANCE_KEY_PREFIX = "ws:presence:instance:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+    private final Duration instanceTtl;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public RedisPresenceStore(StringRedisTemplate redisTemplate,
+                              @Value("${websocket.presence.ttl-hours:12}") long ttlHours,
+                              @Value("${websocket.presence.heartbeat-seconds:30}") long heartbeatSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.instanceTtl = Duration.ofSeconds(heartbeatSeconds * 3);
+    }
+
+    public void connected(Long userId) {
+        String key = userKey(userId);
+        redisTemplate.opsForHash().increment(key, instanceId, 1);
+        redisTemplate.expire(key, ttl);
+        markAlive();
+    }
+
+    public void disconnected(Long userId) {
+        String key = userKey(userId);
+        Long remaining = redisTemplate.opsForHash().increment(key, instanceId, -1);
+        if (remaining == null || remaining <= 0) {
+            redisTemplate.opsForHash().delete(key, instanceId);     // 마지막 필드가 지워지면 키도 같이 삭제됨
+        }
+    }
+
+    /**
+     * 주기 갱신 - 생존 키 연장 + 이 인스턴스에 연결된 사용자별 세션 수 다시 기록 / TTL 연장
+     */
+    public void refresh(Map<Long, Integer> localSessionCounts) {
+        markAlive();
+        // 사용자 수만큼 왕복하지 않도록 파이프라인으로 한 번에 전송
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> stringOperations = (RedisOperations<String, String>) operations;
+                localSessionCounts.forEach((userId, count) -> {
+                    String key = userKey(userId);
+                    stringOperations.opsForHash().put(key, instanceId, String.valueOf(count));
+                    stringOperations.expire(key, ttl);
+                });
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 살아 있는 인스턴스 중 하나라도 연결된 세션이 있는지
+     */
+    public boolean isOnline(Long userId) {
+        return !aliveInstances(userId).isEmpty();
+    }
+
+    /**
+     * 이 인스턴스가 아닌 살아 있는 인스턴스에 연결된 세션이 있는지
+     */
+    public boolean isConnectedElsewhere(Long userId) {
+        return aliveInstances(userId).stream().anyMatch(id -> !instanceId.equals(id));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 정상 종료 → 다른 인스턴스가 생존 키 만료를 기다리지 않고 바로 오프라인으로 판단
+        redisTemplate.delete(INSTANCE_KEY_PREFIX + instanceId);
+    }
+
+    // ========================================
+    // 내부 메서드
+    // ========================================
+
+    private void markAlive() {
+        redisTemplate.opsForValue().set(INSTANCE_KEY_PREFIX + instanceId, "1", instanceTtl);
+    }
+
+    // 세션 수가 1 이상이고 생존 키가 남아 있는 인스턴스 ID 목록
+    private List<String> aliveInstances(Long userId) {
+        Map<Object, Object> counts = redisTemplate.opsForHash().entries(userKey(userId));
+        List<String> connected = new ArrayList<>();
+        counts.forEach((id, count) -> {
+            if (Long.parseLong(count.toString()) > 0) {
+                connected.add(id.toString());
+            }
+        });
+        if (connected.isEmpty()) {
+            return connected;
+        }
+        List<String> alive = redisTemplate.opsForValue()
+                .multiGet(connected.stream().map(id -> INSTANCE_KEY_PREFIX + id).toList());
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < connected.size(); i++) {
+            String id = connected.get(i);
+            if (instanceId.equals(id) || (alive != null && alive.get(i) != null)) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    private static String userKey(Long userId) {
+        return USER_KEY_PREFIX + userId;
+    }
+}
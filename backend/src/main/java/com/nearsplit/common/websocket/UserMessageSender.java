@@ -0,0 +1,43 @@
+package com.nearsplit.common.websocket;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * packageName  : com.nearsplit.common.websocket
+ * fileName     : UserMessageSender
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 특정 사용자에게 WebSocket 메시지 전송 (접속 여부에 따라 경로 선택)
+ *                  - 이 인스턴스에만 연결됨   → /user/queue/{name} (해당 사용자 세션에만 전달, 브로커 구독 매칭 없음)
+ *                  - 다른 인스턴스에도 연결됨 → /topic/{name}/{userId} 만 발행 (로컬 구독자 + 백플레인으로 다른 인스턴스 모두 전달)
+ *                    → 탭/기기가 여러 인스턴스에 나뉘어 있어도 모두 받음, 경로는 하나라 클라이언트 중복 수신 없음
+ *                  - 오프라인              → 전송 생략 (알림은 저장만 되고 접속 시 목록 조회로 확인)
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ * 2026-10-17(토)                user            로컬 + 다른 인스턴스 동시 접속 시 브로커 경로로 전송
+ */
+@Component
+@RequiredArgsConstructor
+public class UserMessageSender {
+    private final SimpMessagingTemplate messagingTemplate;
+    private final WebSocketSessionRegistry sessionRegistry;
+
+    /**
+     * @return 전송했으면 true, 오프라인이라 생략했으면 false
+     */
+    public boolean sendToUser(Long userId, String name, Object payload) {
+        if (sessionRegistry.isConnectedElsewhere(userId)) {
+            messagingTemplate.convertAndSend("/topic/" + name + "/" + userId, payload);
+            return true;
+        }
+        if (sessionRegistry.isConnectedLocally(userId)) {
+            messagingTemplate.convertAndSendToUser(String.valueOf(userId), "/queue/" + name, payload);
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,107 @@
+package com.nearsplit.common.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationContext;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * packageName  : com.nearsplit.common.websocket
+ * fileName     : WebSocketMetrics
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : WebSocket 채널/세션 지표 (actuator /metrics)
+ *                  - websocket.channel.queue.size / active.threads : 인바운드·아웃바운드 채널 스레드풀 대기열, 처리 중 스레드 수
+ *                  - websocket.sessions.active                     : 현재 연결된 세션 수
+ *                  - websocket.sessions.dropped                    : 전송 시간/버퍼 한도 초과로 서버가 끊은 느린 세션 수
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+@Component
+@Slf4j
+public class WebSocketMetrics implements WebSocketHandlerDecoratorFactory {
+    private static final String INBOUND_EXECUTOR = "clientInboundChannelExecutor";
+    private static final String OUTBOUND_EXECUTOR = "clientOutboundChannelExecutor";
+
+    private final ApplicationContext applicationContext;
+    private final AtomicInteger activeSessions = new AtomicInteger();
+    private final Counter droppedSessions;
+
+    public WebSocketMetrics(ApplicationContext applicationContext, MeterRegistry meterRegistry) {
+        this.applicationContext = applicationContext;
+        this.droppedSessions = Counter.builder("websocket.sessions.dropped")
+                .description("전송 시간/버퍼 한도 초과로 종료된 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("websocket.sessions.active", activeSessions, AtomicInteger::get)
+                .register(meterRegistry);
+
+        registerExecutorGauges(meterRegistry, "inbound", INBOUND_EXECUTOR);
+        registerExecutorGauges(meterRegistry, "outbound", OUTBOUND_EXECUTOR);
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                activeSessions.incrementAndGet();
+                super.afterConnectionEstablished(session);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                activeSessions.decrementAndGet();
+                if (CloseStatus.SESSION_NOT_RELIABLE.equalsCode(closeStatus)) {
+                    // ConcurrentWebSocketSessionDecorator 가 send-time-limit / send-buffer-size-limit 초과 시 사용하는 코드
+                    droppedSessions.increment();
+                    log.warn("느린 WebSocket 세션 종료: sessionId={}, userId={}",
+                            session.getId(), session.getAttributes().get("userId"));
+                }
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    // ========================================
+    // 내부 메서드
+    // ========================================
+
+    private void registerExecutorGauges(MeterRegistry meterRegistry, String channel, String beanName) {
+        Gauge.builder("websocket.channel.queue.size", this,
+                        metrics -> metrics.poolValue(beanName, pool -> pool.getThreadPoolExecutor().getQueue().size()))
+                .tag("channel", channel)
+                .register(meterRegistry);
+        Gauge.builder("websocket.channel.active.threads", this,
+                        metrics -> metrics.poolValue(beanName, ThreadPoolTaskExecutor::getActiveCount))
+                .tag("channel", channel)
+                .register(meterRegistry);
+    }
+
+    // 가상 스레드 실행기(스레드풀 아님)이거나 아직 초기화 전이면 0
+    private double poolValue(String beanName, ToDoubleFunction<ThreadPoolTaskExecutor> extractor) {
+        if (!applicationContext.containsBean(beanName)) {
+            return 0;
+        }
+        if (!(applicationContext.getBean(beanName) instanceof ThreadPoolTaskExecutor pool)) {
+            return 0;
+        }
+        try {
+            return extractor.applyAsDouble(pool);
+        } catch (IllegalStateException e) {
+            return 0;
+        }
+    }
+}
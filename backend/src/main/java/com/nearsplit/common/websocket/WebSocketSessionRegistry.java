@@ -0,0 +1,129 @@
+package com.nearsplit.common.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * packageName  : com.nearsplit.common.websocket
+ * fileName     : WebSocketSessionRegistry
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 사용자별 STOMP 세션 목록 + 접속 여부 (presence)
+ *                  - userId 는 JwtHandshakeInterceptor 가 세션 속성에 넣어 둔 값 사용
+ *                  - 같은 사용자가 여러 탭/기기로 접속하면 세션이 여러 개 → 마지막 세션이 끊겨야 오프라인
+ *                  - redis 브로커 모드면 다른 인스턴스 접속 여부도 RedisPresenceStore 로 확인
+ *                    (로컬 세션 수를 주기적으로 다시 기록 → 장시간 연결 사용자 유지)
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ * 2026-10-17(토)                user            다른 인스턴스 접속 여부 / 접속 정보 주기 갱신 추가
+ */
+@Component
+@Slf4j
+public class WebSocketSessionRegistry {
+    private final Map<Long, Set<String>> sessionsByUser = new ConcurrentHashMap<>();
+    private final Map<String, Long> userBySession = new ConcurrentHashMap<>();
+    private final RedisPresenceStore clusterPresence;      // 단일 인스턴스(simple/memory)면 null
+
+    public WebSocketSessionRegistry(ObjectProvider<RedisPresenceStore> clusterPresenceProvider) {
+        this.clusterPresence = clusterPresenceProvider.getIfAvailable();
+    }
+
+    @EventListener
+    public void onConnect(SessionConnectEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        String sessionId = accessor.getSessionId();
+        if (attributes == null || sessionId == null || !(attributes.get("userId") instanceof Long userId)) {
+            return;
+        }
+        if (userBySession.putIfAbsent(sessionId, userId) != null) {
+            return;
+        }
+        sessionsByUser.computeIfAbsent(userId, k -> ConcurrentHashMap.newKeySet()).add(sessionId);
+        if (clusterPresence != null) {
+            clusterPresence.connected(userId);
+        }
+        log.debug("WebSocket 세션 등록: userId={}, sessionId={}", userId, sessionId);
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        // 같은 세션에 대해 여러 번 올 수 있음 → 세션 → 사용자 매핑을 먼저 제거한 쪽만 처리
+        Long userId = userBySession.remove(event.getSessionId());
+        if (userId == null) {
+            return;
+        }
+        sessionsByUser.computeIfPresent(userId, (k, sessions) -> {
+            sessions.remove(event.getSessionId());
+            return sessions.isEmpty() ? null : sessions;
+        });
+        if (clusterPresence != null) {
+            clusterPresence.disconnected(userId);
+        }
+        log.debug("WebSocket 세션 해제: userId={}, sessionId={}", userId, event.getSessionId());
+    }
+
+    /**
+     * 이 인스턴스에 연결된 세션이 있는지
+     */
+    public boolean isConnectedLocally(Long userId) {
+        return sessionsByUser.containsKey(userId);
+    }
+
+    /**
+     * 다른 인스턴스에 연결된 세션이 있는지 (단일 인스턴스 모드면 항상 false)
+     */
+    public boolean isConnectedElsewhere(Long userId) {
+        return clusterPresence != null && clusterPresence.isConnectedElsewhere(userId);
+    }
+
+    /**
+     * 어느 인스턴스든 연결된 세션이 있는지
+     */
+    public boolean isOnline(Long userId) {
+        return isConnectedLocally(userId) || (clusterPresence != null && clusterPresence.isOnline(userId));
+    }
+
+    public Map<Long, Boolean> getPresence(Collection<Long> userIds) {
+        Map<Long, Boolean> presence = new LinkedHashMap<>();
+        for (Long userId : userIds) {
+            presence.put(userId, isOnline(userId));
+        }
+        return presence;
+    }
+
+    public int localUserCount() {
+        return sessionsByUser.size();
+    }
+
+    // redis 모드 - 이 인스턴스 생존 표시 + 로컬 사용자 세션 수 다시 기록 (TTL 연장)
+    @Scheduled(fixedDelayString = "${websocket.presence.heartbeat-seconds:30}", timeUnit = TimeUnit.SECONDS)
+    public void refreshClusterPresence() {
+        if (clusterPresence == null) {
+            return;
+        }
+        Map<Long, Integer> localSessionCounts = new HashMap<>();
+        sessionsByUser.forEach((userId, sessions) -> localSessionCounts.put(userId, sessions.size()));
+        try {
+            clusterPresence.refresh(localSessionCounts);
+        } catch (RuntimeException e) {
+            log.warn("WebSocket 접속 정보 갱신 실패: users={}, message={}", localSessionCounts.size(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.nearsplit.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.cache.CacheManager;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * packageName  : com.nearsplit.config
+ * fileName     : HibernateCacheConfig
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : Hibernate 2차 캐시 (JCache + Caffeine) - 자주 id 로 다시 읽는 User / Product
+ *                  - SplitGroup 은 제외: 승인/마감이 JPQL 벌크 UPDATE 라 실행마다 Hibernate 가 영역 전체를 비움 → 적중률 없음
+ *                  - 영역(region)마다 최대 개수 / TTL 지정 (l2-cache.regions.*), 설정 없는 영역은 기동 실패 (크기 제한 없는 캐시 방지)
+ *                  - 인스턴스 로컬 캐시 → 다른 인스턴스 변경은 TTL 안에 반영 (수정 경로는 @Version 충돌 시 OptimisticLockRetrier 가 캐시 제거 후 재시도)
+ *                  - l2-cache.enabled=false 면 2차/쿼리 캐시 모두 끔 (프로필별 설정)
+ *                  - l2-cache.statistics=true 면 영역별 hit/miss/put 지표 수집 (actuator /metrics 의 hibernate.second.level.cache.*)
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ * 2026-10-17(토)                user            SplitGroup 영역 제거 (벌크 UPDATE 로 영역 전체 무효화)
+ */
+@Configuration
+@Slf4j
+public class HibernateCacheConfig {
+    // 엔티티 캐시 영역 (엔티티 @Cache(region = ...) 에서 사용)
+    public static final String USER_REGION = "nearsplit.user";
+    public static final String PRODUCT_REGION = "nearsplit.product";
+
+    @Value("${l2-cache.enabled:true}")
+    private boolean enabled;
+    @Value("${l2-cache.statistics:true}")
+    private boolean statistics;
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "l2-cache.enabled", havingValue = "true", matchIfMissing = true)
+    public CacheManager hibernateCacheManager(Environment environment) {
+        // 컨텍스트마다 별도 provider → 테스트처럼 컨텍스트가 여러 개여도 같은 이름의 캐시가 겹치지 않음
+        CacheManager cacheManager = new CaffeineCachingProvider().getCacheManager();
+        createRegion(cacheManager, environment, USER_REGION, "user", 10_000, Duration.ofMinutes(10));
+        createRegion(cacheManager, environment, PRODUCT_REGION, "product", 5_000, Duration.ofMinutes(10));
+        createRegion(cacheManager, environment, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                "query-results", 1_000, Duration.ofMinutes(1));
+        // 쿼리 캐시 무효화 기준 (테이블별 마지막 변경 시각) - 쿼리 결과보다 먼저 만료되면 안 되므로 제한 없음
+        createRegion(cacheManager, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                OptionalLong.empty(), OptionalLong.empty());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(ObjectProvider<CacheManager> hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, enabled);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, enabled);
+            properties.put(AvailableSettings.GENERATE_STATISTICS, enabled && statistics);
+            if (!enabled) {
+                log.info("Hibernate 2차 캐시 사용 안 함 (l2-cache.enabled=false)");
+                return;
+            }
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager.getObject());
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    // ========================================
+    // 내부 메서드
+    // ========================================
+
+    private void createRegion(CacheManager cacheManager, Environment environment, String region, String key,
+                              long defaultMaxSize, Duration defaultTtl) {
+        long maxSize = environment.getProperty("l2-cache.regions." + key + ".max-size", Long.class, defaultMaxSize);
+        long ttlSeconds = environment.getProperty("l2-cache.regions." + key + ".ttl-seconds", Long.class, defaultTtl.toSeconds());
+        createRegion(cacheManager, region, OptionalLong.of(maxSize), OptionalLong.of(Duration.ofSeconds(ttlSeconds).toNanos()));
+        log.info("Hibernate 2차 캐시 영역: region={}, maxSize={}, ttlSeconds={}", region, maxSize, ttlSeconds);
+    }
+
+    private void createRegion(CacheManager cacheManager, String region, OptionalLong maxSize, OptionalLong expireAfterWriteNanos) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(maxSize);
+        configuration.setExpireAfterWrite(expireAfterWriteNanos);
+        configuration.setStoreByValue(false);           // Hibernate 가 분해한 상태(배열)를 저장 → 복사 불필요
+        configuration.setStatisticsEnabled(statistics);
+        cacheManager.createCache(region, configuration);
+    }
+}
@@ -0,0 +1,20 @@
+package com.nearsplit.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * packageName  : com.nearsplit.config
+ * fileName     : SchedulingConfig
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : @Scheduled 백그라운드 작업 활성화
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
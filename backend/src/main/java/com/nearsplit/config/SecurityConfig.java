@@ -79,6 +79,7 @@ public class SecurityConfig {
         ));
         cors.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         cors.setAllowedHeaders(Arrays.asList("*"));
+        cors.setExposedHeaders(Arrays.asList("ETag"));                       // 조건부 GET(If-None-Match) 용
         cors.setAllowCredentials(true); // 쿠키 허용
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
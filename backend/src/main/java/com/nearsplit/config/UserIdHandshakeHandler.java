@@ -0,0 +1,37 @@
+package com.nearsplit.config;
+
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
+
+import java.security.Principal;
+import java.util.Map;
+
+/**
+ * packageName  : com.nearsplit.config
+ * fileName     : UserIdHandshakeHandler
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : WebSocket 세션 Principal 을 userId 로 지정
+ *                  - JwtHandshakeInterceptor 가 세션 속성에 넣은 userId 사용
+ *                  - convertAndSendToUser(userId, ...) 로 해당 사용자 세션에만 전달하기 위해 필요
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+@Component
+public class UserIdHandshakeHandler extends DefaultHandshakeHandler {
+
+    @Override
+    protected Principal determineUser(ServerHttpRequest request, WebSocketHandler wsHandler,
+                                      Map<String, Object> attributes) {
+        Object userId = attributes.get("userId");
+        if (userId == null) {
+            return super.determineUser(request, wsHandler, attributes);
+        }
+        String name = String.valueOf(userId);
+        return () -> name;
+    }
+}
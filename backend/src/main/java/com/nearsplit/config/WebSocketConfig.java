@@ -1,11 +1,16 @@
 package com.nearsplit.config;
 
+import com.nearsplit.common.websocket.BrokerRelay;
+import com.nearsplit.common.websocket.WebSocketMetrics;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 /**
  * packageName  : com.nearsplit.config
@@ -17,6 +22,7 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
  * DATE                   AUTHOR          NOTE
  * ---------------------------------------------------
  * 2026-01-21(수)                user            최초 생성
+ * 2026-10-17(토)                user            인바운드 가상 스레드 옵션 제거 (빌드 툴체인 Java 17)
  */
 
 @Configuration
@@ -24,22 +30,83 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 @EnableWebSocketMessageBroker   // 1. WebSocket 핸들러 등록 2. STOMP 프로토콜 지원 활성화 3. 메시지 브로커 인프라 구축 4. @MessageMapping 어노테이션 인식
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     private final JwtHandshakeInterceptor jwtHandshakeInterceptor;
+    private final UserIdHandshakeHandler userIdHandshakeHandler;
+    private final BrokerRelay brokerRelay;
+    private final WebSocketMetrics webSocketMetrics;
+
+    // 클라이언트 → 서버 (STOMP 프레임 처리, @MessageMapping 실행)
+    @Value("${websocket.channel.inbound.core-pool-size:8}")
+    private int inboundCorePoolSize;
+    @Value("${websocket.channel.inbound.max-pool-size:32}")
+    private int inboundMaxPoolSize;
+    @Value("${websocket.channel.inbound.queue-capacity:2000}")
+    private int inboundQueueCapacity;
+
+    // 서버 → 클라이언트 (세션별 전송)
+    @Value("${websocket.channel.outbound.core-pool-size:8}")
+    private int outboundCorePoolSize;
+    @Value("${websocket.channel.outbound.max-pool-size:32}")
+    private int outboundMaxPoolSize;
+    @Value("${websocket.channel.outbound.queue-capacity:5000}")
+    private int outboundQueueCapacity;
+
+    // 세션 전송 한도 (느린 클라이언트가 아웃바운드 스레드를 붙잡지 않도록)
+    @Value("${websocket.transport.send-time-limit-ms:10000}")
+    private int sendTimeLimitMs;
+    @Value("${websocket.transport.send-buffer-size-limit-bytes:524288}")
+    private int sendBufferSizeLimit;
+    @Value("${websocket.transport.message-size-limit-bytes:65536}")
+    private int messageSizeLimit;
+    @Value("${websocket.transport.time-to-first-message-ms:30000}")
+    private int timeToFirstMessageMs;
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {    // 메시지 라우팅 설정
         // 메시지 브로커 설정
         // "/topic"으로 시작하는 메시지는 메시지 브로커가 처리 (브로드캐스트)
-        registry.enableSimpleBroker("/topic");
+        // "/queue"는 사용자 전용 목적지 (/user/queue/... → 해당 사용자 세션으로 변환)
+        registry.enableSimpleBroker("/topic", "/queue");
+        registry.setUserDestinationPrefix("/user");
+
+        // 여러 인스턴스 운영 시 /topic 메시지를 다른 인스턴스 구독자에게도 중계 (websocket.broker.mode)
+        registry.configureBrokerChannel().interceptors(brokerRelay);
 
         // 클라이언트가 메시지를 보낼 때 "/app"으로 시작하는 경로 사용
         registry.setApplicationDestinationPrefixes("/app");
     }
 
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(inboundCorePoolSize)
+                .maxPoolSize(inboundMaxPoolSize)
+                .queueCapacity(inboundQueueCapacity);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(outboundCorePoolSize)
+                .maxPoolSize(outboundMaxPoolSize)
+                .queueCapacity(outboundQueueCapacity);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registry) {
+        // 한도 초과 세션은 서버가 종료 (CloseStatus.SESSION_NOT_RELIABLE) → websocket.sessions.dropped 집계
+        registry.setSendTimeLimit(sendTimeLimitMs)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit)
+                .setTimeToFirstMessage(timeToFirstMessageMs)
+                .addDecoratorFactory(webSocketMetrics);
+    }
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {    // 웹소켓 연결 설정
         // WebSocket 연결 엔드포인트
         registry.addEndpoint("/ws")
                 .addInterceptors(jwtHandshakeInterceptor)   // jwt 토큰 가져와서 userId webSocket 세션에 저장
+                .setHandshakeHandler(userIdHandshakeHandler)    // 세션 Principal = userId (convertAndSendToUser 용)
                 .setAllowedOriginPatterns("*")  // CORS 설정 (개발 환경) => 이후 운영에서는 도메인 주소(https://nearsplit.com)
                 .withSockJS();  // SockJS fallback 지원
     }
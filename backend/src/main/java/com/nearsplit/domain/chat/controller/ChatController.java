@@ -1,6 +1,7 @@
 package com.nearsplit.domain.chat.controller;
 
 import com.nearsplit.common.dto.ApiResponse;
+import com.nearsplit.common.dto.CursorResponse;
 import com.nearsplit.domain.chat.dto.ChatMessageRequest;
 import com.nearsplit.domain.chat.dto.ChatMessageResponse;
 import com.nearsplit.domain.chat.entity.ChatMessage;
@@ -73,6 +74,23 @@ public class ChatController {
         return ResponseEntity.ok(ApiResponse.success(responsePage));
     }
 
+    /**
+     * REST API: 특정 메시지 이전 메시지 조회 (무한 스크롤)
+     * GET /api/chat/{groupId}/messages?before={messageId}&size=50
+     * - 다음 요청의 before 에는 응답의 nextCursor 전달
+     */
+    @GetMapping("/api/chat/{groupId}/messages")
+    @ResponseBody
+    public ResponseEntity<ApiResponse<CursorResponse<ChatMessageResponse>>> getMessagesBefore(
+            @PathVariable Long groupId,
+            @AuthenticationPrincipal Long userId,
+            @RequestParam(required = false) Long before,
+            @RequestParam(defaultValue = "50") int size) {
+
+        CursorResponse<ChatMessageResponse> response = chatService.getMessagesBefore(groupId, userId, before, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     /**
      * REST API: 최근 메시지 조회
      * GET /api/chat/{groupId}/recent
@@ -83,10 +101,7 @@ public class ChatController {
             @PathVariable Long groupId,
             @AuthenticationPrincipal Long userId) {
 
-        List<ChatMessage> messages = chatService.getRecentMessages(groupId, userId);
-        List<ChatMessageResponse> responses = messages.stream()
-                .map(ChatMessageResponse::from)
-                .toList();
+        List<ChatMessageResponse> responses = chatService.getRecentMessages(groupId, userId);
 
         return ResponseEntity.ok(ApiResponse.success(responses));
     }
@@ -8,7 +8,10 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "chat_messages")
+@Table(name = "chat_messages", indexes = {
+        // 채팅 히스토리 커서 조회 (group_id 일치 + created_at, id 역순)
+        @Index(name = "idx_chat_messages_group_created_id", columnList = "group_id, created_at, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -17,8 +20,7 @@ import java.time.LocalDateTime;
 public class ChatMessage {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
+    private Long id;        // SnowflakeIdGenerator 로 선발급 (시간순 정렬) - 저장은 ChatMessageJdbcRepository 배치 insert
 
     @Column(nullable = false)
     private Long groupId;  // 어느 그룹의 채팅인지
@@ -0,0 +1,48 @@
+package com.nearsplit.domain.chat.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * packageName  : com.nearsplit.domain.chat.entity
+ * fileName     : ChatMessageDeadLetter
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 저장에 끝내 실패한 채팅 메시지 보관 (이미 브로드캐스트된 메시지라 버리지 않고 원본 그대로 기록)
+ *                  - 제약 위반이 원인일 수 있으므로 원본 컬럼은 모두 nullable / 길이 제한 없음
+ *                  - 저장은 ChatMessageDeadLetterRepository 가 JDBC 로 처리 (엔티티는 dev 스키마 생성용)
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+@Entity
+@Table(name = "chat_message_dead_letter",
+        indexes = @Index(name = "idx_chat_message_dead_letter_failed_at", columnList = "failed_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChatMessageDeadLetter {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long messageId;             // 선발급된 채팅 메시지 ID
+    private Long groupId;
+    private Long senderId;
+    @Column(columnDefinition = "TEXT")
+    private String senderName;
+    @Column(columnDefinition = "TEXT")
+    private String content;
+    @Column(length = 20)
+    private String type;
+    private LocalDateTime createdAt;    // 메시지 전송 시각
+
+    @Column(length = 500)
+    private String error;               // 마지막 저장 실패 사유
+    @Column(name = "failed_at", nullable = false)
+    private LocalDateTime failedAt;
+}
@@ -0,0 +1,29 @@
+package com.nearsplit.domain.chat.event;
+
+/**
+ * packageName  : com.nearsplit.domain.chat.event
+ * fileName     : ChatMessageEventPayload
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 채팅 메시지 전송 이벤트 내용 (그룹 멤버 새 메시지 알림용)
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+public record ChatMessageEventPayload(
+        Long messageId,
+        Long groupId,
+        Long senderId,
+        String senderName,
+        String preview              // 메시지 미리보기 (앞부분만)
+) {
+    private static final int PREVIEW_LENGTH = 50;
+
+    public static String preview(String content) {
+        if (content == null || content.length() <= PREVIEW_LENGTH) {
+            return content;
+        }
+        return content.substring(0, PREVIEW_LENGTH) + "...";
+    }
+}
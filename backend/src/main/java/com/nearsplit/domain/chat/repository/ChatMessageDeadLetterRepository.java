@@ -0,0 +1,47 @@
+package com.nearsplit.domain.chat.repository;
+
+import com.nearsplit.domain.chat.entity.ChatMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * packageName  : com.nearsplit.domain.chat.repository
+ * fileName     : ChatMessageDeadLetterRepository
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 저장 실패한 채팅 메시지 기록 (JDBC, 호출부 트랜잭션 없이 자동 커밋)
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageDeadLetterRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final int MAX_ERROR_LENGTH = 500;
+    private static final String INSERT_SQL = """
+            INSERT INTO chat_message_dead_letter
+                (message_id, group_id, sender_id, sender_name, content, type, created_at, error, failed_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    public void insert(ChatMessage message, String error) {
+        String trimmedError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        jdbcTemplate.update(INSERT_SQL,
+                message.getId(),
+                message.getGroupId(),
+                message.getSenderId(),
+                message.getSenderName(),
+                message.getContent(),
+                message.getType() != null ? message.getType().name() : null,
+                message.getCreatedAt() != null ? Timestamp.valueOf(message.getCreatedAt()) : null,
+                trimmedError,
+                Timestamp.valueOf(LocalDateTime.now()));
+    }
+}
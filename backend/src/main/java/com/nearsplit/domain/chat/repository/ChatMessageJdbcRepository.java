@@ -0,0 +1,44 @@
+package com.nearsplit.domain.chat.repository;
+
+import com.nearsplit.domain.chat.entity.ChatMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * packageName  : com.nearsplit.domain.chat.repository
+ * fileName     : ChatMessageJdbcRepository
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 채팅 메시지 일괄 저장 (JDBC batch insert)
+ *                  - ID 는 이미 발급된 값 사용 → generated key 회수 없이 한 번에 전송
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageJdbcRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO chat_messages (id, group_id, sender_id, sender_name, content, type, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    public void batchInsert(List<ChatMessage> messages) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, messages, messages.size(), (ps, message) -> {
+            ps.setLong(1, message.getId());
+            ps.setLong(2, message.getGroupId());
+            ps.setLong(3, message.getSenderId());
+            ps.setString(4, message.getSenderName());
+            ps.setString(5, message.getContent());
+            ps.setString(6, message.getType().name());
+            ps.setTimestamp(7, Timestamp.valueOf(message.getCreatedAt()));
+        });
+    }
+}
@@ -4,8 +4,12 @@ import com.nearsplit.domain.chat.entity.ChatMessage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
 
@@ -14,4 +18,19 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
 
     // 특정 그룹의 최근 메시지 N개 조회
     List<ChatMessage> findTop50ByGroupIdOrderByCreatedAtDesc(Long groupId);
+
+    // (createdAt, id) 기준 이전 메시지 - 인덱스 idx_chat_messages_group_created_id 사용, COUNT 쿼리 없음
+    @Query("""
+            SELECT m FROM ChatMessage m
+            WHERE m.groupId = :groupId
+              AND (m.createdAt < :cursorCreatedAt OR (m.createdAt = :cursorCreatedAt AND m.id < :cursorId))
+            ORDER BY m.createdAt DESC, m.id DESC
+            """)
+    List<ChatMessage> findBefore(@Param("groupId") Long groupId,
+                                 @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                 @Param("cursorId") Long cursorId,
+                                 Pageable pageable);
+
+    @Query("SELECT m.createdAt FROM ChatMessage m WHERE m.id = :id AND m.groupId = :groupId")
+    Optional<LocalDateTime> findCreatedAtByIdAndGroupId(@Param("id") Long id, @Param("groupId") Long groupId);
 }
@@ -0,0 +1,58 @@
+package com.nearsplit.domain.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nearsplit.common.outbox.OutboxEnvelope;
+import com.nearsplit.common.outbox.OutboxEventHandler;
+import com.nearsplit.common.outbox.OutboxEventType;
+import com.nearsplit.common.websocket.UserMessageSender;
+import com.nearsplit.domain.chat.event.ChatMessageEventPayload;
+import com.nearsplit.domain.split_group.service.GroupMembershipCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * packageName  : com.nearsplit.domain.chat.service
+ * fileName     : ChatEventHandler
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 채팅 메시지 이벤트 → 그룹 멤버(방장 + 참여자)에게 새 메시지 알림 전송
+ *                  - 채팅방을 보고 있지 않은 멤버용 (/user/queue/chat-alert, 다른 인스턴스 접속 시 /topic/chat-alert/{userId})
+ *                  - 메시지마다 알림 테이블에 쌓지 않고 WebSocket 으로만 전달
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatEventHandler implements OutboxEventHandler {
+    private final GroupMembershipCache groupMembershipCache;
+    private final UserMessageSender userMessageSender;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public Set<OutboxEventType> supportedTypes() {
+        return Set.of(OutboxEventType.CHAT_MESSAGE_SENT);
+    }
+
+    @Override
+    public void handle(OutboxEnvelope envelope) {
+        ChatMessageEventPayload event = envelope.payloadAs(objectMapper, ChatMessageEventPayload.class);
+
+        Set<Long> recipients = new LinkedHashSet<>(groupMembershipCache.getMembers(event.groupId()).memberIds());
+        recipients.remove(event.senderId());
+
+        Map<String, Object> alert = Map.of(
+                "groupId", event.groupId(),
+                "messageId", event.messageId(),
+                "senderName", event.senderName(),
+                "preview", event.preview() != null ? event.preview() : "");
+        for (Long userId : recipients) {
+            userMessageSender.sendToUser(userId, "chat-alert", alert);     // 오프라인 멤버는 생략
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.nearsplit.domain.chat.service;
+
+import com.nearsplit.domain.chat.entity.ChatMessage;
+import com.nearsplit.domain.chat.repository.ChatMessageDeadLetterRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * packageName  : com.nearsplit.domain.chat.service
+ * fileName     : ChatMessageWriteBuffer
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 채팅 메시지 쓰기 지연(write-behind) 버퍼 (메모리 큐 + 단일 플러셔)
+ *                  - 메시지는 ID 선발급 후 바로 브로드캐스트, 저장은 플러셔가 batch-size 단위로 모아서 처리
+ *                  - 큐가 가득 차면 offer-timeout-ms 만큼 대기 → 그래도 가득 차면 호출 스레드에서 직접 저장 (백프레셔)
+ *                  - enabled=false 면 버퍼 없이 호출 스레드에서 즉시 저장
+ *                  - 묶음 저장 실패 시 retry-backoff-ms 부터 2배씩 늘려 재시도 → 그래도 실패하면 메시지별로 저장
+ *                    (문제 메시지만 chat_message_dead_letter 에 기록, 나머지는 정상 저장)
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ * 2026-10-17(토)                user            재시도 간격 / 메시지별 저장 / 실패 메시지 보관 + 지표
+ */
+@Component
+@Slf4j
+public class ChatMessageWriteBuffer {
+    private static final int MAX_FLUSH_ATTEMPTS = 3;
+
+    private final ChatMessageWriter chatMessageWriter;
+    private final ChatMessageDeadLetterRepository chatMessageDeadLetterRepository;
+    private final Counter batchFallbacks;
+    private final Counter deadLettered;
+    private final boolean enabled;
+    private final BlockingQueue<ChatMessage> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long offerTimeoutMs;
+    private final long retryBackoffMs;
+
+    private Thread flusher;
+    private volatile boolean running = true;
+
+    public ChatMessageWriteBuffer(ChatMessageWriter chatMessageWriter,
+                                  ChatMessageDeadLetterRepository chatMessageDeadLetterRepository,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${chat.write-behind.enabled:true}") boolean enabled,
+                                  @Value("${chat.write-behind.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${chat.write-behind.batch-size:200}") int batchSize,
+                                  @Value("${chat.write-behind.flush-interval-ms:50}") long flushIntervalMs,
+                                  @Value("${chat.write-behind.offer-timeout-ms:100}") long offerTimeoutMs,
+                                  @Value("${chat.write-behind.retry-backoff-ms:100}") long retryBackoffMs) {
+        this.chatMessageWriter = chatMessageWriter;
+        this.chatMessageDeadLetterRepository = chatMessageDeadLetterRepository;
+        this.batchFallbacks = Counter.builder("chat.write-behind.batch.fallbacks")
+                .description("재시도 후에도 묶음 저장에 실패해 메시지별 저장으로 전환한 횟수")
+                .register(meterRegistry);
+        this.deadLettered = Counter.builder("chat.write-behind.dead-lettered")
+                .description("저장에 끝내 실패해 보관 테이블(또는 로그)로 보낸 메시지 수")
+                .register(meterRegistry);
+        this.enabled = enabled;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.retryBackoffMs = retryBackoffMs;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        flusher = new Thread(this::runLoop, "chat-write-behind");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (flusher == null) {
+            return;
+        }
+        running = false;
+        flusher.interrupt();
+        flusher.join(TimeUnit.SECONDS.toMillis(5));
+        // 종료 시점에 남아 있는 메시지는 모두 저장
+        List<ChatMessage> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            flush(batch);
+            batch = new ArrayList<>(batchSize);
+        }
+    }
+
+    /**
+     * 메시지 저장 요청
+     */
+    public void submit(ChatMessage message) {
+        if (!enabled) {
+            chatMessageWriter.write(List.of(message));
+            return;
+        }
+        try {
+            if (queue.offer(message, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.warn("채팅 저장 큐 가득 참 - 호출 스레드에서 직접 저장: groupId={}, pending={}", message.getGroupId(), queue.size());
+        chatMessageWriter.write(List.of(message));
+    }
+
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    // ========================================
+    // 플러셔
+    // ========================================
+
+    private void runLoop() {
+        while (running) {
+            try {
+                ChatMessage first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<ChatMessage> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+
+                // flush-interval 동안 더 모아서 한 번에 저장 (바쁜 채팅방일수록 묶음이 커짐)
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    ChatMessage next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    // 테스트에서 직접 호출
+    void flush(List<ChatMessage> batch) {
+        long backoffMs = retryBackoffMs;
+        for (int attempt = 1; attempt <= MAX_FLUSH_ATTEMPTS; attempt++) {
+            try {
+                chatMessageWriter.write(batch);
+                return;
+            } catch (RuntimeException e) {
+                log.warn("채팅 메시지 저장 실패: count={}, attempt={}, message={}", batch.size(), attempt, e.getMessage());
+            }
+            if (attempt < MAX_FLUSH_ATTEMPTS && !sleep(backoffMs)) {
+                break;      // 종료 중 → 남은 재시도 대신 바로 메시지별 저장
+            }
+            backoffMs *= 2;
+        }
+
+        // 묶음 안의 메시지 하나 때문일 수 있음 → 메시지별로 저장해서 문제 메시지만 걸러냄
+        batchFallbacks.increment();
+        for (ChatMessage message : batch) {
+            try {
+                chatMessageWriter.write(List.of(message));
+            } catch (RuntimeException e) {
+                deadLetter(message, e);
+            }
+        }
+    }
+
+    // 이미 브로드캐스트된 메시지 → 버리지 않고 보관 테이블에 기록, 그것도 실패하면 원본을 로그로 남김
+    private void deadLetter(ChatMessage message, RuntimeException cause) {
+        deadLettered.increment();
+        try {
+            chatMessageDeadLetterRepository.insert(message, cause.getMessage());
+            log.error("채팅 메시지 저장 포기 - 보관 테이블 기록: id={}, groupId={}, message={}",
+                    message.getId(), message.getGroupId(), cause.getMessage());
+        } catch (RuntimeException e) {
+            log.error("채팅 메시지 저장 포기 - 보관 테이블 기록 실패: id={}, groupId={}, senderId={}, createdAt={}, content={}, message={}",
+                    message.getId(), message.getGroupId(), message.getSenderId(), message.getCreatedAt(),
+                    message.getContent(), e.getMessage());
+        }
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.nearsplit.domain.chat.service;
+
+import com.nearsplit.common.outbox.OutboxEventRecorder;
+import com.nearsplit.common.outbox.OutboxEventType;
+import com.nearsplit.domain.chat.entity.ChatMessage;
+import com.nearsplit.domain.chat.event.ChatMessageEventPayload;
+import com.nearsplit.domain.chat.repository.ChatMessageJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * packageName  : com.nearsplit.domain.chat.service
+ * fileName     : ChatMessageWriter
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 채팅 메시지 묶음 저장 + 새 메시지 이벤트 기록 (한 트랜잭션)
+ *                  - 이벤트는 묶음 안에서 그룹별 마지막 메시지 1건만 기록 → 바쁜 채팅방에서도 알림 폭주 없음
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatMessageWriter {
+    private final ChatMessageJdbcRepository chatMessageJdbcRepository;
+    private final OutboxEventRecorder outboxEventRecorder;
+
+    // 호출부(읽기 전용 트랜잭션일 수 있음)와 분리된 쓰기 트랜잭션
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void write(List<ChatMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        chatMessageJdbcRepository.batchInsert(messages);
+
+        Map<Long, ChatMessage> latestByGroup = new LinkedHashMap<>();
+        for (ChatMessage message : messages) {
+            latestByGroup.merge(message.getGroupId(), message,
+                    (current, candidate) -> candidate.getId() > current.getId() ? candidate : current);
+        }
+        for (ChatMessage latest : latestByGroup.values()) {
+            outboxEventRecorder.record(OutboxEventType.CHAT_MESSAGE_SENT, latest.getGroupId(),
+                    new ChatMessageEventPayload(latest.getId(), latest.getGroupId(), latest.getSenderId(),
+                            latest.getSenderName(), ChatMessageEventPayload.preview(latest.getContent())));
+        }
+    }
+}
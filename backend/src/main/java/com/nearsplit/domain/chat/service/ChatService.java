@@ -1,25 +1,26 @@
 package com.nearsplit.domain.chat.service;
 
+import com.nearsplit.common.dto.CursorResponse;
 import com.nearsplit.common.exception.BusinessException;
 import com.nearsplit.common.exception.ErrorCode;
+import com.nearsplit.common.util.SnowflakeIdGenerator;
 import com.nearsplit.domain.chat.dto.ChatMessageRequest;
+import com.nearsplit.domain.chat.dto.ChatMessageResponse;
 import com.nearsplit.domain.chat.entity.ChatMessage;
 import com.nearsplit.domain.chat.repository.ChatMessageRepository;
-import com.nearsplit.domain.split_group.entity.SplitGroup;
-import com.nearsplit.domain.split_group.repository.ParticipantRepository;
-import com.nearsplit.domain.split_group.repository.SplitGroupRepository;
-import com.nearsplit.domain.user.entity.User;
-import com.nearsplit.domain.user.repository.UserRepository;
+import com.nearsplit.domain.split_group.service.GroupMembershipCache;
+import com.nearsplit.domain.user.service.UserNicknameCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 @Service
 @Slf4j
@@ -28,65 +29,93 @@ import java.util.Optional;
 public class ChatService {
 
     private final ChatMessageRepository chatMessageRepository;
-    private final SplitGroupRepository splitGroupRepository;
-    private final ParticipantRepository participantRepository;
-    private final UserRepository userRepository;
-    private final SimpMessagingTemplate simpMessagingTemplate;
+    private final GroupMembershipCache groupMembershipCache;
+    private final UserNicknameCache userNicknameCache;
+    private final SnowflakeIdGenerator snowflakeIdGenerator;
+    private final ChatMessageWriteBuffer chatMessageWriteBuffer;
+    private final RecentChatBuffer recentChatBuffer;
+
+    private static final int HISTORY_MAX_PAGE_SIZE = 100;
 
     // 메시지 저장
-    @Transactional
+    // - ID/생성 시각을 먼저 발급해서 바로 브로드캐스트, DB 저장은 ChatMessageWriteBuffer 가 묶어서 처리
+    // - 트랜잭션 없이 실행 → 전송마다 커넥션을 잡지 않음 (큐가 가득 차 직접 저장할 때도 커넥션 1개만 사용)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ChatMessage saveMessage(ChatMessageRequest request, Long senderId) {
-        // 1. 그룹 참여자 확인
-        boolean isHost = splitGroupRepository.existsByIdAndHostUserId(request.getGroupId(), senderId);
-        boolean isParticipant = participantRepository.existsBySplitGroupIdAndUserId(request.getGroupId(), senderId);
+        // 1. 그룹 참여자 확인 (멤버십 캐시)
+        validateMember(request.getGroupId(), senderId);
 
-        if (!isHost && !isParticipant) {
-            throw new BusinessException(ErrorCode.FORBIDDEN);    // 권한 없는 알림은 뜨는데 화면이 꺼지지 않아서 조회는 가능 => 프론트에서 ws 연결하는 로직이 따로 있어서 그럼
-        }
+        // 2. 발신자 이름 (닉네임 캐시)
+        String senderName = userNicknameCache.getNickname(senderId);
 
-        // 2. 사용자 정보 조회
-        User sender = userRepository.findById(senderId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-
-        // 3. 메시지 저장
+        // 3. 메시지 생성 (ID 선발급)
         ChatMessage message = ChatMessage.builder()
+                .id(snowflakeIdGenerator.nextId())
                 .groupId(request.getGroupId())
                 .senderId(senderId)
-                .senderName(sender.getNickname())
+                .senderName(senderName)
                 .content(request.getContent())
                 .type(request.getType())
+                .createdAt(LocalDateTime.now())
                 .build();
 
-        ChatMessage saved = chatMessageRepository.save(message);
-        log.info("메시지 저장 완료: groupId={}, messageId={}", request.getGroupId(), saved.getId());
-        simpMessagingTemplate.convertAndSend("/topic/notification/"+ "사용자들...","내용...");    // 근데 여기서 포문 돌면서 다 찾아..?
+        // 4. 저장 요청 → 저장과 함께 새 메시지 이벤트 기록 (ChatMessageWriter)
+        chatMessageWriteBuffer.submit(message);
+        recentChatBuffer.append(ChatMessageResponse.from(message));
+        log.debug("메시지 저장 요청: groupId={}, messageId={}", message.getGroupId(), message.getId());
 
-        return saved;
+        return message;
     }
 
-    // 메시지 히스토리 조회 (페이징)
+    // 메시지 히스토리 조회 (페이징) - OFFSET + COUNT, 무한 스크롤은 getMessagesBefore 사용
     public Page<ChatMessage> getMessageHistory(Long groupId, Long userId, Pageable pageable) {
         // 그룹 참여자 확인
-        boolean isHost = splitGroupRepository.existsByIdAndHostUserId(groupId, userId);
-        boolean isParticipant = participantRepository.existsBySplitGroupIdAndUserId(groupId, userId);
-
-        if (!isHost && !isParticipant) {
-            throw new BusinessException(ErrorCode.FORBIDDEN);
-        }
+        validateMember(groupId, userId);
 
         return chatMessageRepository.findByGroupIdOrderByCreatedAtDesc(groupId, pageable);
     }
 
-    // 최근 메시지 조회 (최대 50개)
-    public List<ChatMessage> getRecentMessages(Long groupId, Long userId) {
+    /**
+     * 특정 메시지 이전 메시지 조회 (무한 스크롤, 최신순)
+     * - before 가 없으면 가장 최근부터
+     * - size + 1 건 조회로 다음 페이지 여부 판단 (COUNT 쿼리 없음), nextCursor = 이번 페이지 가장 오래된 메시지 ID
+     */
+    public CursorResponse<ChatMessageResponse> getMessagesBefore(Long groupId, Long userId, Long before, int size) {
         // 그룹 참여자 확인
-        boolean isHost = splitGroupRepository.existsByIdAndHostUserId(groupId, userId);
-        boolean isParticipant = participantRepository.existsBySplitGroupIdAndUserId(groupId, userId);
+        validateMember(groupId, userId);
 
-        if (!isHost && !isParticipant) {
-            throw new BusinessException(ErrorCode.FORBIDDEN);
-        }
+        int pageSize = Math.min(Math.max(size, 1), HISTORY_MAX_PAGE_SIZE);
+        long cursorId = before != null ? before : Long.MAX_VALUE;
+        // 아직 저장 대기 중(write-behind)인 메시지면 DB 에 없음 → 지금까지 저장된 메시지 전체가 그 이전
+        LocalDateTime cursorCreatedAt = before == null ? LocalDateTime.now()
+                : chatMessageRepository.findCreatedAtByIdAndGroupId(before, groupId).orElseGet(LocalDateTime::now);
+
+        List<ChatMessage> rows = chatMessageRepository.findBefore(groupId, cursorCreatedAt, cursorId,
+                PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = rows.size() > pageSize;
+        List<ChatMessage> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? String.valueOf(page.get(page.size() - 1).getId()) : null;
 
-        return chatMessageRepository.findTop50ByGroupIdOrderByCreatedAtDesc(groupId);
+        return CursorResponse.of(page.stream().map(ChatMessageResponse::from).toList(), nextCursor);
+    }
+
+    // 최근 메시지 조회 (최대 50개, 최신순)
+    // - 메모리 버퍼에서 반환, 버퍼가 없거나 동기화 주기가 지난 경우만 DB 조회
+    public List<ChatMessageResponse> getRecentMessages(Long groupId, Long userId) {
+        // 그룹 참여자 확인
+        validateMember(groupId, userId);
+
+        return recentChatBuffer.getRecent(groupId, () ->
+                chatMessageRepository.findTop50ByGroupIdOrderByCreatedAtDesc(groupId).stream()
+                        .map(ChatMessageResponse::from)
+                        .toList());
+    }
+
+    // 방장 또는 참여자만 채팅 전송/조회 가능
+    private void validateMember(Long groupId, Long userId) {
+        if (!groupMembershipCache.isMember(groupId, userId)) {
+            throw new BusinessException(ErrorCode.FORBIDDEN);    // 권한 없는 알림은 뜨는데 화면이 꺼지지 않아서 조회는 가능 => 프론트에서 ws 연결하는 로직이 따로 있어서 그럼
+        }
     }
 }
@@ -0,0 +1,143 @@
+package com.nearsplit.domain.chat.service;
+
+import com.nearsplit.domain.chat.dto.ChatMessageResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * packageName  : com.nearsplit.domain.chat.service
+ * fileName     : RecentChatBuffer
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 활성 채팅방별 최근 메시지 링 버퍼 (채팅방 입장 시 최근 메시지 조회용)
+ *                  - 그룹마다 최근 size 개만 보관, 그룹 수는 max-groups 초과 시 가장 오래 안 쓴 그룹부터 제거 (LRU)
+ *                  - 버퍼가 없거나 DB 와 맞춰본 지 resync-seconds 가 지났을 때만 DB 조회 후 병합
+ *                    (다른 인스턴스로 전송된 메시지도 주기적으로 반영)
+ *                  - 메시지 ID 가 시간순(Snowflake)이라 ID 로 정렬/중복 제거
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+@Component
+public class RecentChatBuffer {
+    private final int size;
+    private final int maxGroups;
+    private final long resyncNanos;
+    private final LongSupplier ticker;
+    private final Map<Long, GroupBuffer> buffers;
+
+    public RecentChatBuffer(@Value("${chat.recent-buffer.size:50}") int size,
+                            @Value("${chat.recent-buffer.max-groups:1000}") int maxGroups,
+                            @Value("${chat.recent-buffer.resync-seconds:60}") long resyncSeconds) {
+        this(size, maxGroups, resyncSeconds, System::nanoTime);
+    }
+
+    RecentChatBuffer(int size, int maxGroups, long resyncSeconds, LongSupplier ticker) {
+        this.size = size;
+        this.maxGroups = maxGroups;
+        this.resyncNanos = TimeUnit.SECONDS.toNanos(resyncSeconds);
+        this.ticker = ticker;
+        // accessOrder = true → 조회/추가할 때마다 최근 사용으로 이동
+        this.buffers = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, GroupBuffer> eldest) {
+                return size() > RecentChatBuffer.this.maxGroups;
+            }
+        };
+    }
+
+    /**
+     * 새 메시지 추가 (전송 직후)
+     * - 아직 DB 와 맞춰보지 않은 그룹이면 새 메시지만 담아 두고 첫 조회 때 DB 결과와 병합
+     */
+    public void append(ChatMessageResponse message) {
+        bufferOf(message.getGroupId()).add(message);
+    }
+
+    /**
+     * 최근 메시지 (최신순)
+     * @param loader DB 조회 (최신순) - 버퍼가 비었거나 resync 시점일 때만 호출
+     */
+    public List<ChatMessageResponse> getRecent(Long groupId, Supplier<List<ChatMessageResponse>> loader) {
+        GroupBuffer buffer = bufferOf(groupId);
+        if (buffer.needsSync()) {
+            buffer.syncWith(loader.get());
+        }
+        return buffer.snapshotNewestFirst();
+    }
+
+    public synchronized void evict(Long groupId) {
+        buffers.remove(groupId);
+    }
+
+    public synchronized int groupCount() {
+        return buffers.size();
+    }
+
+    private synchronized GroupBuffer bufferOf(Long groupId) {
+        return buffers.computeIfAbsent(groupId, k -> new GroupBuffer());
+    }
+
+    // ========================================
+    // 그룹별 버퍼
+    // ========================================
+
+    private class GroupBuffer {
+        private final Deque<ChatMessageResponse> messages = new ArrayDeque<>(size);    // 오래된 것 → 최신
+        private long syncedAt;
+        private boolean synced = false;
+
+        synchronized void add(ChatMessageResponse message) {
+            ChatMessageResponse last = messages.peekLast();
+            if (last != null && last.getMessageId() > message.getMessageId()) {
+                // 순서가 뒤바뀐 경우 (동시 전송) → 정렬 병합
+                merge(List.of(message));
+                return;
+            }
+            messages.addLast(message);
+            while (messages.size() > size) {
+                messages.removeFirst();
+            }
+        }
+
+        synchronized boolean needsSync() {
+            return !synced || ticker.getAsLong() - syncedAt >= resyncNanos;
+        }
+
+        synchronized void merge(List<ChatMessageResponse> loaded) {
+            TreeMap<Long, ChatMessageResponse> byId = new TreeMap<>();
+            messages.forEach(m -> byId.put(m.getMessageId(), m));
+            loaded.forEach(m -> byId.putIfAbsent(m.getMessageId(), m));
+
+            // 최신 size 개만 남김 (오래된 것 → 최신 순서 유지)
+            messages.clear();
+            byId.descendingMap().values().stream().limit(size).forEach(messages::addFirst);
+        }
+
+        // DB 조회 결과와 병합 후 동기화 시각 기록
+        synchronized void syncWith(List<ChatMessageResponse> loaded) {
+            merge(loaded);
+            synced = true;
+            syncedAt = ticker.getAsLong();
+        }
+
+        synchronized List<ChatMessageResponse> snapshotNewestFirst() {
+            List<ChatMessageResponse> result = new ArrayList<>(messages);
+            Collections.reverse(result);
+            return result;
+        }
+    }
+}
@@ -1,16 +1,17 @@
 package com.nearsplit.domain.notification.controller;
 
 import com.nearsplit.common.dto.ApiResponse;
+import com.nearsplit.common.util.ETags;
+import com.nearsplit.common.dto.CursorResponse;
 import com.nearsplit.domain.notification.dto.NotificationResponse;
-import com.nearsplit.domain.notification.entity.Notification;
 import com.nearsplit.domain.notification.service.NotificationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.function.EntityResponse;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -31,15 +32,25 @@ import java.util.List;
 public class NotificationController {
     private final NotificationService notificationService;
 
+    // 조건부 GET - If-None-Match 가 현재 ETag 와 같으면 목록 조회 없이 304
     @GetMapping
-    public ResponseEntity<ApiResponse<List<NotificationResponse>>> getMyNotifications(@AuthenticationPrincipal Long userId) {
-        List<Notification> notifications = notificationService.getMyNotifications(userId);
-
-        List<NotificationResponse> response = new ArrayList<>();
-
-        for (Notification notification : notifications) {
-            response.add(NotificationResponse.from(notification));
+    public ResponseEntity<ApiResponse<List<NotificationResponse>>> getMyNotifications(@AuthenticationPrincipal Long userId,
+                                                                                     WebRequest webRequest) {
+        String etag = notificationService.getMyNotificationsETag(userId);
+        if (webRequest.checkNotModified(etag)) {
+            return ETags.notModified(etag);
         }
+        List<NotificationResponse> response = notificationService.getMyNotifications(userId);
+        return ResponseEntity.ok().cacheControl(ETags.CACHE_CONTROL).eTag(etag).body(ApiResponse.success(response));
+    }
+
+    // 알림 피드 (커서 페이징) - nextCursor 를 다음 요청 cursor 로 전달
+    @GetMapping("/feed")
+    public ResponseEntity<ApiResponse<CursorResponse<NotificationResponse>>> getNotificationFeed(
+            @AuthenticationPrincipal Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorResponse<NotificationResponse> response = notificationService.getNotificationFeed(userId, cursor, size);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
@@ -0,0 +1,20 @@
+package com.nearsplit.domain.notification.dto;
+
+import com.nearsplit.domain.notification.entity.NotificationType;
+import com.nearsplit.domain.notification.entity.ReferenceType;
+
+/**
+ * packageName  : com.nearsplit.domain.notification.dto
+ * fileName     : NotificationCommand
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 저장 + 발송할 알림 한 건 (아웃박스 이벤트 핸들러가 만들어 NotificationDispatcher 로 일괄 저장 + 전송)
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ * 2026-10-17(토)                user            메모리 큐 제거에 맞춰 설명 수정 (아웃박스 경로로 대체)
+ */
+public record NotificationCommand(Long userId, NotificationType type, String title, String message,
+                                  Long referenceId, ReferenceType referenceType) {
+}
@@ -0,0 +1,57 @@
+package com.nearsplit.domain.notification.dto;
+
+import com.nearsplit.common.exception.BusinessException;
+import com.nearsplit.common.exception.ErrorCode;
+import com.nearsplit.domain.notification.entity.Notification;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * packageName  : com.nearsplit.domain.notification.dto
+ * fileName     : NotificationCursor
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 알림 피드 커서 (마지막으로 받은 알림의 createdAt + id)
+ *                  - 다음 페이지 = (createdAt, id) 보다 이전 알림
+ *                  - 클라이언트에는 Base64 문자열로 전달
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+public record NotificationCursor(LocalDateTime createdAt, long id) {
+
+    // 첫 페이지용 - 어떤 알림보다도 나중 값
+    private static final LocalDateTime MAX_CREATED_AT = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    public static NotificationCursor first() {
+        return new NotificationCursor(MAX_CREATED_AT, Long.MAX_VALUE);
+    }
+
+    public static NotificationCursor after(Notification last) {
+        return new NotificationCursor(last.getCreatedAt(), last.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static NotificationCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return first();
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("커서 형식 오류");
+            }
+            return new NotificationCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "유효하지 않은 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.nearsplit.domain.notification.dto;
+
+import com.nearsplit.common.util.ETags;
+
+/**
+ * packageName  : com.nearsplit.domain.notification.dto
+ * fileName     : NotificationListVersion
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 사용자 알림 목록의 변경 지표 (조건부 GET ETag 용)
+ *                  - 신규 알림 → maxId, 삭제/보관 → count, 개별 읽음 → readCount, 전체 읽음 → lastReadId 가 바뀜
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+public record NotificationListVersion(Long count, Long maxId, Long readCount) {
+
+    public String toETag(long lastReadId) {
+        return ETags.of(count, maxId, readCount, lastReadId);
+    }
+}
@@ -32,6 +32,27 @@ public class NotificationResponse {
     private boolean isRead;                 // 읽음 여부
     private LocalDateTime createdAt;        // 생성 일자
 
+    // JDBC 일괄 저장 후 (엔티티를 거치지 않고) 바로 응답 생성
+    public static NotificationResponse of(Long id, NotificationCommand command, LocalDateTime createdAt) {
+        return NotificationResponse.builder()
+                .id(id)
+                .userId(command.userId())
+                .type(command.type())
+                .title(command.title())
+                .message(command.message())
+                .referenceId(command.referenceId())
+                .isRead(false)
+                .createdAt(createdAt)
+                .build();
+    }
+
+    // 전체 읽음 워터마크 반영
+    public static NotificationResponse from(Notification notification, long lastReadId) {
+        NotificationResponse response = from(notification);
+        response.isRead = notification.isReadWith(lastReadId);
+        return response;
+    }
+
     public static NotificationResponse from(Notification notification) {
         return NotificationResponse.builder()
                 .id(notification.getId())
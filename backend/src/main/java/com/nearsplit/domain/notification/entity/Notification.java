@@ -20,6 +20,10 @@ import java.time.LocalDateTime;
  * 2026-01-27(화)                user            최초 생성
  */
 @Entity
+@Table(name = "notification", indexes = {
+        // 알림 피드 커서 조회 (user_id 일치 + created_at, id 역순)
+        @Index(name = "idx_notification_user_created_id", columnList = "user_id, created_at desc, id desc")
+})
 @EntityListeners(AuditingEntityListener.class)
 @Getter @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -76,6 +80,13 @@ public class Notification {
         this.isRead = true;
     }
 
+    /**
+     * 읽음 여부 (개별 읽음 or 전체 읽음 워터마크 이하)
+     */
+    public boolean isReadWith(long lastReadId) {
+        return this.isRead || (this.id != null && this.id <= lastReadId);
+    }
+
     /**
      * 본인 알림인지 검증
      */
@@ -0,0 +1,43 @@
+package com.nearsplit.domain.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * packageName  : com.nearsplit.domain.notification.entity
+ * fileName     : NotificationArchive
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 보관 기간이 지난 읽은 알림 (notification 테이블에서 이동)
+ *                  - 조회 API 에서는 사용하지 않음 → 알림 테이블 크기를 일정하게 유지하기 위한 보관용
+ *                  - 이동은 NotificationJdbcRepository.archiveReadBefore 에서 JDBC 로 처리 (원본 id 유지)
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+@Entity
+@Table(name = "notification_archive", indexes = {
+        @Index(name = "idx_notification_archive_user_created", columnList = "user_id, created_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationArchive {
+    @Id
+    private Long id;                        // 원본 알림 ID
+
+    private Long userId;
+    @Enumerated(EnumType.STRING)
+    private NotificationType type;
+    private String title;
+    private String message;
+    private Long referenceId;
+    @Enumerated(EnumType.STRING)
+    private ReferenceType referenceType;
+    private LocalDateTime createdAt;        // 원본 생성일
+    private LocalDateTime archivedAt;       // 보관 처리일
+}
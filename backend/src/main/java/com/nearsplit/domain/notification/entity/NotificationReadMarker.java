@@ -0,0 +1,53 @@
+package com.nearsplit.domain.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * packageName  : com.nearsplit.domain.notification.entity
+ * fileName     : NotificationReadMarker
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 사용자별 "여기까지 읽음" 기준 알림 ID (전체 읽음 처리용 워터마크)
+ *                  - 알림 ID <= lastReadId 이면 is_read 값과 관계없이 읽은 것으로 취급
+ *                  - 전체 읽음 = 이 행 1건만 갱신 (안 읽은 알림 수와 무관)
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+@Entity
+@Table(name = "notification_read_marker")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class NotificationReadMarker {
+    @Id
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long lastReadId;
+
+    @LastModifiedDate
+    private LocalDateTime updatedAt;
+
+    public NotificationReadMarker(Long userId, Long lastReadId) {
+        this.userId = userId;
+        this.lastReadId = lastReadId;
+    }
+
+    /**
+     * 워터마크 전진 (뒤로 가지 않음)
+     */
+    public void advanceTo(Long notificationId) {
+        if (notificationId != null && notificationId > this.lastReadId) {
+            this.lastReadId = notificationId;
+        }
+    }
+}
@@ -20,5 +20,8 @@ public enum NotificationType {
     APPROVED,                   // 승인 (신청자에게)
     REJECTED,                   // 거절 (신청자에게)
     GROUP_FULL,                 // 모집 완료 (참여자 전원에게)
+    GROUP_CLOSED,               // 마감일 경과로 모집 마감 (방장 + 참여자 전원에게)
+    PAYMENT_CONFIRMED,          // 참여자 결제 완료 (호스트에게)
+    PAYMENT_CANCELED,           // 참여자 결제 취소 (호스트에게)
     CHAT                        // 새 채팅
 }
@@ -0,0 +1,130 @@
+package com.nearsplit.domain.notification.repository;
+
+import com.nearsplit.domain.notification.dto.NotificationCommand;
+import com.nearsplit.domain.notification.dto.NotificationResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * packageName  : com.nearsplit.domain.notification.repository
+ * fileName     : NotificationJdbcRepository
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 알림 일괄 저장 (JDBC batch insert) + 오래된 읽은 알림 보관 이동
+ *                  - IDENTITY 전략이라 JPA saveAll 은 건마다 insert → JDBC 배치로 한 번에 전송
+ *                  - 생성된 id 를 받아서 WebSocket 응답에 사용 (프론트 삭제/읽음 처리용)
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationJdbcRepository {
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO notification (user_id, type, title, message, reference_id, reference_type, is_read, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, false, ?, ?)
+            """;
+
+    // 보관 대상: cutoff 이전 생성 + 읽음 (개별 읽음 or 전체 읽음 워터마크 이하)
+    private static final String SELECT_ARCHIVABLE_IDS_SQL = """
+            SELECT n.id FROM notification n
+            LEFT JOIN notification_read_marker m ON m.user_id = n.user_id
+            WHERE n.created_at < :cutoff
+              AND (n.is_read = true OR n.id <= m.last_read_id)
+            ORDER BY n.id
+            LIMIT :limit
+            """;
+
+    private static final String INSERT_ARCHIVE_SQL = """
+            INSERT INTO notification_archive (id, user_id, type, title, message, reference_id, reference_type, created_at, archived_at)
+            SELECT id, user_id, type, title, message, reference_id, reference_type, created_at, :archivedAt
+            FROM notification WHERE id IN (:ids)
+            """;
+
+    private static final String DELETE_ARCHIVED_SQL = "DELETE FROM notification WHERE id IN (:ids)";
+
+    /**
+     * 오래된 읽은 알림 한 묶음을 notification_archive 로 이동
+     * - 묶음 단위 트랜잭션 → 긴 잠금/대용량 undo 없이 조금씩 옮김
+     * @return 이동한 건수 (limit 보다 작으면 더 옮길 것이 없음)
+     */
+    @Transactional
+    public int archiveReadBefore(LocalDateTime cutoff, int limit) {
+        List<Long> ids = namedParameterJdbcTemplate.queryForList(SELECT_ARCHIVABLE_IDS_SQL,
+                new MapSqlParameterSource()
+                        .addValue("cutoff", Timestamp.valueOf(cutoff))
+                        .addValue("limit", limit),
+                Long.class);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("archivedAt", Timestamp.valueOf(LocalDateTime.now()));
+        namedParameterJdbcTemplate.update(INSERT_ARCHIVE_SQL, params);
+        return namedParameterJdbcTemplate.update(DELETE_ARCHIVED_SQL, params);
+    }
+
+    @Transactional
+    public List<NotificationResponse> batchInsert(List<NotificationCommand> commands) {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp createdAt = Timestamp.valueOf(now);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        NotificationCommand command = commands.get(i);
+                        ps.setLong(1, command.userId());
+                        ps.setString(2, command.type().name());
+                        ps.setString(3, command.title());
+                        ps.setString(4, command.message());
+                        if (command.referenceId() != null) {
+                            ps.setLong(5, command.referenceId());
+                        } else {
+                            ps.setNull(5, Types.BIGINT);
+                        }
+                        ps.setString(6, command.referenceType() != null ? command.referenceType().name() : null);
+                        ps.setTimestamp(7, createdAt);
+                        ps.setTimestamp(8, createdAt);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return commands.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        List<NotificationResponse> responses = new ArrayList<>(commands.size());
+        for (int i = 0; i < commands.size(); i++) {
+            Long id = i < keys.size() ? ((Number) keys.get(i).values().iterator().next()).longValue() : null;
+            responses.add(NotificationResponse.of(id, commands.get(i), now));
+        }
+        return responses;
+    }
+}
@@ -0,0 +1,9 @@
+package com.nearsplit.domain.notification.repository;
+
+import com.nearsplit.domain.notification.entity.NotificationReadMarker;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface NotificationReadMarkerRepository extends JpaRepository<NotificationReadMarker, Long> {
+}
@@ -1,11 +1,17 @@
 package com.nearsplit.domain.notification.repository;
 
+import com.nearsplit.domain.notification.dto.NotificationListVersion;
 import com.nearsplit.domain.notification.entity.Notification;
 import com.nearsplit.domain.notification.entity.NotificationType;
 import com.nearsplit.domain.notification.entity.ReferenceType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,12 +25,43 @@ import java.util.Optional;
  * DATE                   AUTHOR          NOTE
  * ---------------------------------------------------
  * 2026-01-27(화)                user            최초 생성
+ * 2026-10-17(토)                user            조건부 읽음 처리 추가
  */
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
     List<Notification> findByUserIdOrderByCreatedAtDesc(Long userId);   // 내 알림 목록
     List<Notification> findByUserIdAndIsReadFalse(Long userId);         // 내 알림 중 알림을 읽지 않은 목록
     int countByUserIdAndIsReadFalse(Long userId);                       // 안 읽은 개수
+    int countByUserIdAndIsReadFalseAndIdGreaterThan(Long userId, Long lastReadId);  // 워터마크 이후 안 읽은 개수
+
+    // 알림 피드 (createdAt, id) 커서 이후 - 인덱스 idx_notification_user_created_id 사용
+    @Query("""
+            SELECT n FROM Notification n
+            WHERE n.userId = :userId
+              AND (n.createdAt < :cursorCreatedAt OR (n.createdAt = :cursorCreatedAt AND n.id < :cursorId))
+            ORDER BY n.createdAt DESC, n.id DESC
+            """)
+    List<Notification> findFeed(@Param("userId") Long userId,
+                                @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                @Param("cursorId") Long cursorId,
+                                Pageable pageable);
+
+    // 개별 읽음 처리 - 아직 안 읽은 경우에만 변경 (동시 요청 중 1건만 1 반환 → 카운터 중복 차감 방지)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.isRead = true, n.updatedAt = :now WHERE n.id = :id AND n.isRead = false")
+    int markAsReadIfUnread(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Query("SELECT MAX(n.id) FROM Notification n WHERE n.userId = :userId")
+    Long findMaxIdByUserId(@Param("userId") Long userId);              // 전체 읽음 워터마크 기준
+
+    // 알림 목록 조건부 GET 용 변경 지표 (건수, 최신 ID, 개별 읽음 건수) - 엔티티 로딩 없이 집계 1회
+    @Query("""
+            SELECT new com.nearsplit.domain.notification.dto.NotificationListVersion(
+                COUNT(n), MAX(n.id), SUM(CASE WHEN n.isRead = true THEN 1 ELSE 0 END))
+            FROM Notification n
+            WHERE n.userId = :userId
+            """)
+    NotificationListVersion findListVersion(@Param("userId") Long userId);
 
 
     int deleteByUserIdAndReferenceIdAndReferenceType(Long userId, Long referenceId, ReferenceType referenceType);   // 이걸로 바로 삭제하려고 했는데, 프론트에 삭제되는 번호를 넘겨줘야해서 find로 추가
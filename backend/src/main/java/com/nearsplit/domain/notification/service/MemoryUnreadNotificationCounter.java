@@ -0,0 +1,105 @@
+package com.nearsplit.domain.notification.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * packageName  : com.nearsplit.domain.notification.service
+ * fileName     : MemoryUnreadNotificationCounter
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 읽지 않은 알림 개수 - 인스턴스 메모리 구현 (notification.unread-counter.store=memory)
+ *                  - 다른 인스턴스에서 생긴 변경은 반영되지 않으므로 ttl 이 지나면 DB 로 다시 계산
+ *                  - 변경 번호는 전역 시계 값 (값이 없는 사용자 증감/삭제 시 기록, 상한 초과로 비울 때는 전체 기준값을 올림)
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ * 2026-10-17(토)                user            set → setIfAbsent
+ * 2026-10-17(토)                user            변경 번호 (계산 중 생긴 증감이 있으면 저장 안 함)
+ */
+@Component
+@ConditionalOnProperty(name = "notification.unread-counter.store", havingValue = "memory", matchIfMissing = true)
+public class MemoryUnreadNotificationCounter implements UnreadNotificationCounter {
+
+    private final ConcurrentHashMap<Long, Entry> counters = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Long> versions = new ConcurrentHashMap<>();
+    private final AtomicLong clock = new AtomicLong();
+    private volatile long clearedVersion = 0;     // 마지막으로 versions 를 비운 시점 (이전에 읽은 변경 번호는 모두 무효)
+    private final long ttlNanos;
+    private final int maxUsers;
+
+    private record Entry(int count, long loadedAt) {
+    }
+
+    public MemoryUnreadNotificationCounter(@Value("${notification.unread-counter.ttl-seconds:300}") long ttlSeconds,
+                                           @Value("${notification.unread-counter.max-users:100000}") int maxUsers) {
+        this.ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+        this.maxUsers = maxUsers;
+    }
+
+    @Override
+    public Integer get(Long userId) {
+        Entry entry = counters.get(userId);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.loadedAt() > ttlNanos) {
+            counters.remove(userId, entry);
+            return null;
+        }
+        return entry.count();
+    }
+
+    @Override
+    public long version(Long userId) {
+        return Math.max(versions.getOrDefault(userId, 0L), clearedVersion);
+    }
+
+    @Override
+    public void setIfUnchanged(Long userId, int count, long version) {
+        if (counters.size() >= maxUsers && !counters.containsKey(userId)) {
+            counters.clear();   // 상한 초과 시 전체 비움 → 접속 중인 사용자부터 다시 채워짐
+        }
+        // 변경 번호 확인 ~ 저장을 원자적으로 (같은 사용자 add/evict 와 겹치지 않도록 versions 항목 잠금 안에서 처리)
+        versions.compute(userId, (id, current) -> {
+            if (Math.max(current != null ? current : 0L, clearedVersion) == version) {
+                counters.putIfAbsent(userId, new Entry(Math.max(count, 0), System.nanoTime()));
+            }
+            return current;
+        });
+    }
+
+    @Override
+    public void add(Long userId, int delta) {
+        versions.compute(userId, (id, current) -> {
+            // 원자적 증감 (loadedAt 은 유지 → 증감만으로 만료가 미뤄지지 않음)
+            Entry updated = counters.computeIfPresent(userId,
+                    (key, entry) -> new Entry(Math.max(entry.count() + delta, 0), entry.loadedAt()));
+            return updated != null ? current : clock.incrementAndGet();
+        });
+        trimVersions();
+    }
+
+    @Override
+    public void evict(Long userId) {
+        versions.compute(userId, (id, current) -> {
+            counters.remove(userId);
+            return clock.incrementAndGet();
+        });
+        trimVersions();
+    }
+
+    // 변경 번호를 기록한 사용자가 상한을 넘으면 전체 비우고 기준값을 올림 (비우기 전에 읽은 번호로는 저장 불가)
+    private void trimVersions() {
+        if (versions.size() > maxUsers) {
+            clearedVersion = clock.incrementAndGet();
+            versions.clear();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.nearsplit.domain.notification.service;
+
+import com.nearsplit.common.scheduling.SchedulerLease;
+import com.nearsplit.domain.notification.repository.NotificationJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * packageName  : com.nearsplit.domain.notification.service
+ * fileName     : NotificationArchiveJob
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 보관 기간이 지난 읽은 알림을 notification_archive 로 이동 (매일 새벽)
+ *                  - 안 읽은 알림은 기간과 관계없이 유지 (안 읽은 개수 카운터 영향 없음)
+ *                  - chunk-size 단위로 나눠서 이동, 한 번 실행에 max-chunks 까지만 처리
+ *                  - 여러 인스턴스에서 동시에 돌지 않도록 DB 임대(SchedulerLease) 확보한 인스턴스만 실행 (같은 id 중복 이동 방지)
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ * 2026-10-17(토)                user            SchedulerLease 로 단일 인스턴스 실행
+ */
+@Component
+@Slf4j
+public class NotificationArchiveJob {
+    private static final String LEASE_NAME = "notification-archive";
+
+    private final NotificationJdbcRepository notificationJdbcRepository;
+    private final SchedulerLease schedulerLease;
+    private final int retentionDays;
+    private final int chunkSize;
+    private final int maxChunks;
+    private final Duration leaseTime;
+
+    public NotificationArchiveJob(NotificationJdbcRepository notificationJdbcRepository,
+                                  SchedulerLease schedulerLease,
+                                  @Value("${notification.archive.retention-days:30}") int retentionDays,
+                                  @Value("${notification.archive.chunk-size:1000}") int chunkSize,
+                                  @Value("${notification.archive.max-chunks:100}") int maxChunks,
+                                  @Value("${notification.archive.lease-seconds:1800}") long leaseSeconds) {
+        this.notificationJdbcRepository = notificationJdbcRepository;
+        this.schedulerLease = schedulerLease;
+        this.retentionDays = retentionDays;
+        this.chunkSize = chunkSize;
+        this.maxChunks = maxChunks;
+        this.leaseTime = Duration.ofSeconds(leaseSeconds);
+    }
+
+    @Scheduled(cron = "${notification.archive.cron:0 0 4 * * *}")
+    public void archive() {
+        if (!schedulerLease.tryAcquire(LEASE_NAME, leaseTime)) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        int total = 0;
+        try {
+            for (int chunk = 0; chunk < maxChunks; chunk++) {
+                int moved = notificationJdbcRepository.archiveReadBefore(cutoff, chunkSize);
+                total += moved;
+                if (moved < chunkSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            // 이미 이동한 묶음은 커밋된 상태 → 나머지는 다음 실행 때 이어서 처리
+            log.warn("알림 보관 이동 중단: moved={}, message={}", total, e.getMessage());
+            return;
+        } finally {
+            schedulerLease.release(LEASE_NAME);
+        }
+        log.info("오래된 읽은 알림 보관 이동: cutoff={}, moved={}", cutoff, total);
+    }
+}
@@ -0,0 +1,72 @@
+package com.nearsplit.domain.notification.service;
+
+import com.nearsplit.common.util.TransactionCallbacks;
+import com.nearsplit.common.websocket.UserMessageSender;
+import com.nearsplit.domain.notification.dto.NotificationCommand;
+import com.nearsplit.domain.notification.dto.NotificationResponse;
+import com.nearsplit.domain.notification.repository.NotificationJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * packageName  : com.nearsplit.domain.notification.service
+ * fileName     : NotificationDispatcher
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 알림 저장 + 발송
+ *                  - 이벤트 하나의 알림을 JDBC 배치 저장 후 접속 중인 사용자에게만 WebSocket 전송
+ *                  - 아웃박스 이벤트 핸들러에서 호출 → 실패 시 릴레이/컨슈머가 재시도 (별도 메모리 큐 없음)
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ * 2026-10-17(토)                user            카운터 증가 / WebSocket 전송을 커밋 이후로 이동
+ * 2026-10-17(토)                user            사용하지 않는 메모리 큐 / 워커 제거
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationDispatcher {
+    private static final String NOTIFICATION_DESTINATION = "notification";
+
+    private final NotificationJdbcRepository notificationJdbcRepository;
+    private final UserMessageSender userMessageSender;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+
+    /**
+     * 바로 저장 + 전송 (이벤트 핸들러처럼 처리 완료 후 확인 응답이 필요한 경우)
+     */
+    public void dispatchNow(List<NotificationCommand> commands) {
+        if (commands.isEmpty()) {
+            return;
+        }
+        List<NotificationResponse> saved = notificationJdbcRepository.batchInsert(commands);
+        // 저장이 롤백되면(중복 이벤트 등) 카운터/전송도 하지 않도록 커밋 이후 실행
+        TransactionCallbacks.afterCommit(() -> publishSaved(saved));
+    }
+
+    // ========================================
+    // 내부 메서드
+    // ========================================
+
+    private void publishSaved(List<NotificationResponse> saved) {
+        // 읽지 않은 알림 개수 증가 (저장 커밋 이후)
+        saved.stream()
+                .collect(Collectors.groupingBy(NotificationResponse::getUserId, Collectors.summingInt(r -> 1)))
+                .forEach(unreadNotificationCounter::add);
+
+        // 접속 중인 사용자에게만 전송 (오프라인이면 저장만 → 접속 시 목록 조회로 확인)
+        for (NotificationResponse response : saved) {
+            try {
+                userMessageSender.sendToUser(response.getUserId(), NOTIFICATION_DESTINATION, response);
+            } catch (RuntimeException e) {
+                // 저장은 완료 → 접속 시 목록 조회로 확인 가능
+                log.warn("알림 WebSocket 전송 실패: userId={}, message={}", response.getUserId(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.nearsplit.domain.notification.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nearsplit.common.outbox.OutboxEnvelope;
+import com.nearsplit.common.outbox.OutboxEventHandler;
+import com.nearsplit.common.outbox.OutboxEventType;
+import com.nearsplit.domain.notification.dto.NotificationCommand;
+import com.nearsplit.domain.notification.entity.NotificationType;
+import com.nearsplit.domain.notification.entity.ReferenceType;
+import com.nearsplit.domain.payment.event.PaymentEventPayload;
+import com.nearsplit.domain.split_group.event.SplitGroupEventPayload;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * packageName  : com.nearsplit.domain.notification.service
+ * fileName     : NotificationEventHandler
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 소분 그룹 / 결제 도메인 이벤트 → 사용자 알림 생성
+ *                  - 기존에 서비스 트랜잭션 안에서 바로 만들던 알림을 이벤트 수신 측으로 이동
+ *                  - 같은 이벤트 재수신 시 OutboxEventDispatcher 가 처리 기록(이벤트 ID)으로 건너뜀 → 알림 중복 생성 X
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationEventHandler implements OutboxEventHandler {
+    private final NotificationService notificationService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public Set<OutboxEventType> supportedTypes() {
+        return EnumSet.of(
+                OutboxEventType.SPLIT_GROUP_JOIN_REQUESTED,
+                OutboxEventType.SPLIT_GROUP_PARTICIPANT_APPROVED,
+                OutboxEventType.SPLIT_GROUP_PARTICIPANT_REJECTED,
+                OutboxEventType.SPLIT_GROUP_FULL,
+                OutboxEventType.SPLIT_GROUP_CLOSED,
+                OutboxEventType.PAYMENT_CONFIRMED,
+                OutboxEventType.PAYMENT_CANCELED);
+    }
+
+    @Override
+    public void handle(OutboxEnvelope envelope) {
+        notificationService.deliverNotifications(toCommands(envelope));
+    }
+
+    private List<NotificationCommand> toCommands(OutboxEnvelope envelope) {
+        return switch (envelope.eventType()) {
+            case SPLIT_GROUP_JOIN_REQUESTED -> {
+                SplitGroupEventPayload event = envelope.payloadAs(objectMapper, SplitGroupEventPayload.class);
+                yield List.of(command(event.hostUserId(), NotificationType.JOIN_REQUEST,
+                        "그룹 참여 요청", "그룹 참여 요청이 왔습니다.", event.groupId()));
+            }
+            case SPLIT_GROUP_PARTICIPANT_APPROVED -> {
+                SplitGroupEventPayload event = envelope.payloadAs(objectMapper, SplitGroupEventPayload.class);
+                yield event.targetUserIds().stream()
+                        .map(userId -> command(userId, NotificationType.APPROVED,
+                                "그룹 참여 승인", "참여 신청이 승인 됐습니다.", event.groupId()))
+                        .toList();
+            }
+            case SPLIT_GROUP_PARTICIPANT_REJECTED -> {
+                SplitGroupEventPayload event = envelope.payloadAs(objectMapper, SplitGroupEventPayload.class);
+                yield event.targetUserIds().stream()
+                        .map(userId -> command(userId, NotificationType.REJECTED,
+                                "그룹 참여 거절", "참여 신청이 거절 됐습니다.", event.groupId()))
+                        .toList();
+            }
+            case SPLIT_GROUP_FULL -> {
+                SplitGroupEventPayload event = envelope.payloadAs(objectMapper, SplitGroupEventPayload.class);
+                yield event.memberUserIds().stream()
+                        .map(userId -> command(userId, NotificationType.GROUP_FULL,
+                                "모집 완료", "모집이 완료 됐습니다.", event.groupId()))
+                        .toList();
+            }
+            case SPLIT_GROUP_CLOSED -> {
+                SplitGroupEventPayload event = envelope.payloadAs(objectMapper, SplitGroupEventPayload.class);
+                List<NotificationCommand> commands = new ArrayList<>();
+                commands.add(command(event.hostUserId(), NotificationType.GROUP_CLOSED,
+                        "모집 마감", "마감일이 지나 모집이 마감 됐습니다.", event.groupId()));
+                event.memberUserIds().forEach(userId -> commands.add(command(userId, NotificationType.GROUP_CLOSED,
+                        "모집 마감", "참여 신청한 그룹의 마감일이 지나 모집이 마감 됐습니다.", event.groupId())));
+                yield commands;
+            }
+            case PAYMENT_CONFIRMED -> {
+                PaymentEventPayload event = envelope.payloadAs(objectMapper, PaymentEventPayload.class);
+                yield List.of(command(event.hostUserId(), NotificationType.PAYMENT_CONFIRMED,
+                        "결제 완료", "참여자가 분담금 결제를 완료했습니다.", event.groupId()));
+            }
+            case PAYMENT_CANCELED -> {
+                PaymentEventPayload event = envelope.payloadAs(objectMapper, PaymentEventPayload.class);
+                yield List.of(command(event.hostUserId(), NotificationType.PAYMENT_CANCELED,
+                        "결제 취소", "참여자가 분담금 결제를 취소했습니다.", event.groupId()));
+            }
+            default -> List.of();
+        };
+    }
+
+    private NotificationCommand command(Long userId, NotificationType type, String title, String message, Long groupId) {
+        return new NotificationCommand(userId, type, title, message, groupId, ReferenceType.SPLIT_GROUP);
+    }
+}
@@ -1,18 +1,26 @@
 package com.nearsplit.domain.notification.service;
 
+import com.nearsplit.common.dto.CursorResponse;
 import com.nearsplit.common.exception.BusinessException;
 import com.nearsplit.common.exception.ErrorCode;
+import com.nearsplit.common.util.TransactionCallbacks;
+import com.nearsplit.common.websocket.UserMessageSender;
+import com.nearsplit.domain.notification.dto.NotificationCommand;
+import com.nearsplit.domain.notification.dto.NotificationCursor;
 import com.nearsplit.domain.notification.dto.NotificationResponse;
 import com.nearsplit.domain.notification.entity.Notification;
+import com.nearsplit.domain.notification.entity.NotificationReadMarker;
 import com.nearsplit.domain.notification.entity.NotificationType;
 import com.nearsplit.domain.notification.entity.ReferenceType;
+import com.nearsplit.domain.notification.repository.NotificationReadMarkerRepository;
 import com.nearsplit.domain.notification.repository.NotificationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -28,6 +36,9 @@ import java.util.Map;
  * DATE                   AUTHOR          NOTE
  * ---------------------------------------------------
  * 2026-01-27(화)                user            최초 생성
+ * 2026-10-17(토)                user            사용하지 않는 createNotification(메모리 큐 적재) 제거
+ * 2026-10-17(토)                user            개별 읽음 조건부 UPDATE, 개수 캐시는 없을 때만 채움
+ * 2026-10-17(토)                user            개수 캐시는 계산 중 변경이 없었을 때만 채움
  */
 
 @RequiredArgsConstructor
@@ -36,22 +47,19 @@ import java.util.Map;
 @Slf4j
 public class NotificationService {
     private final NotificationRepository notificationRepository;
-    private final SimpMessagingTemplate messagingTemplate;
-
-    @Transactional
-    public void createNotification(Long userId, NotificationType type, String title, String message,
-                                   Long referenceId, ReferenceType referenceType) {
-        // 정적 팩토리로 Notification 생성 (isRead=false 초기화 포함)
-        Notification notification = Notification.createNotification(
-                userId, type, title, message, referenceId, referenceType);
-
-        Notification saved = notificationRepository.save(notification);
-        NotificationResponse response = NotificationResponse.from(saved);
-    
-        // 중복 추가되지 않게 체크로직도 넣어야함
-        
-        messagingTemplate.convertAndSend(
-                "/topic/notification/" + userId, response);
+    private final NotificationReadMarkerRepository notificationReadMarkerRepository;
+    private final UserMessageSender userMessageSender;
+    private final NotificationDispatcher notificationDispatcher;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+
+    private static final int FEED_MAX_PAGE_SIZE = 50;
+
+    /**
+     * 즉시 저장 + 전송 (도메인 이벤트 핸들러용)
+     * - 반환 시점에 저장이 끝나 있어야 이벤트를 처리 완료로 볼 수 있음
+     */
+    public void deliverNotifications(List<NotificationCommand> commands) {
+        notificationDispatcher.dispatchNow(commands);
     }
 
     @Transactional
@@ -66,43 +74,108 @@ public class NotificationService {
         response.put("action", "DELETE");
         response.put("notificationId", target.getId());
 
-        messagingTemplate.convertAndSend("/topic/notification/" + userId, response);
+        userMessageSender.sendToUser(userId, "notification", response);
         log.info("target id={}", target.getId());
         notificationRepository.delete(target);
 
+        if (!target.isReadWith(getLastReadId(userId))) {
+            TransactionCallbacks.afterCommit(() -> unreadNotificationCounter.add(userId, -1));
+        }
+
     }
 
-    // 알림 목록 조회
-    public List<Notification> getMyNotifications(Long userId) {
-        return notificationRepository.findByUserIdOrderByCreatedAtDesc(userId);
+    // 알림 목록 ETag (집계 1회 + 워터마크 조회) - 목록을 읽기 전에 계산해서 본문이 ETag 보다 과거가 되지 않도록
+    public String getMyNotificationsETag(Long userId) {
+        return notificationRepository.findListVersion(userId).toETag(getLastReadId(userId));
+    }
+
+    // 알림 목록 조회 (전체 읽음 워터마크 반영) - 전체 이력 반환, 신규 화면은 getNotificationFeed 사용
+    public List<NotificationResponse> getMyNotifications(Long userId) {
+        long lastReadId = getLastReadId(userId);
+        return notificationRepository.findByUserIdOrderByCreatedAtDesc(userId).stream()
+                .map(notification -> NotificationResponse.from(notification, lastReadId))
+                .toList();
+    }
+
+    /**
+     * 알림 피드 (커서 페이징, 최신순)
+     * - (createdAt, id) 커서 이후 size + 1 건 조회 → 다음 페이지 존재 여부 판단 (COUNT 쿼리 없음)
+     * - size : 1 ~ 50 범위로 보정
+     */
+    public CursorResponse<NotificationResponse> getNotificationFeed(Long userId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), FEED_MAX_PAGE_SIZE);
+        NotificationCursor current = NotificationCursor.decode(cursor);
+
+        List<Notification> rows = notificationRepository.findFeed(userId, current.createdAt(), current.id(),
+                PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = rows.size() > pageSize;
+        List<Notification> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? NotificationCursor.after(page.get(page.size() - 1)).encode() : null;
+
+        long lastReadId = getLastReadId(userId);
+        return CursorResponse.of(page.stream().map(n -> NotificationResponse.from(n, lastReadId)).toList(), nextCursor);
     }
 
-    // 읽지 않은 알림 개수 조회
+    // 읽지 않은 알림 개수 조회 (워터마크 이후 + 개별 읽음 안 한 것)
+    // - 평소에는 카운터 캐시에서 반환, 없을 때만 DB 로 계산해서 채움
+    // - 계산 전에 변경 번호를 읽어 두고, 계산 중 증감/삭제가 있었으면 저장하지 않음 (낡은 값 고정 방지)
     public int getUnreadCount(Long userId) {
-        return notificationRepository.countByUserIdAndIsReadFalse(userId);
+        Integer cached = unreadNotificationCounter.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+        long version = unreadNotificationCounter.version(userId);
+        int count = notificationRepository.countByUserIdAndIsReadFalseAndIdGreaterThan(userId, getLastReadId(userId));
+        unreadNotificationCounter.setIfUnchanged(userId, count, version);
+        return count;
     }
 
     // 단일 알림 읽기 처리
+    // - 조건부 UPDATE (안 읽은 경우에만) → 같은 알림을 동시에 읽어도 실제로 바꾼 1건만 카운터 차감
+    // - 워터마크 이하 알림은 이미 읽음으로 집계되어 있으므로 차감하지 않음
     @Transactional
     public void markAsRead(Long notificationId, Long userId) {
         Notification notification = notificationRepository.findById(notificationId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOTIFICATION_NOT_FOUND));
 
-        // 도메인 메서드로 소유자 검증 + 읽음 처리
+        // 도메인 메서드로 소유자 검증
         notification.validateOwner(userId);
-        notification.markAsRead();
-        //notificationRepository.save(notification);
+        boolean afterWatermark = notification.getId() > getLastReadId(userId);
+
+        if (notificationRepository.markAsReadIfUnread(notificationId, LocalDateTime.now()) == 1 && afterWatermark) {
+            TransactionCallbacks.afterCommit(() -> unreadNotificationCounter.add(userId, -1));
+        }
     }
 
     // 전체 알림 읽음 처리
+    // - 안 읽은 알림을 하나씩 수정하지 않고 "여기까지 읽음" 워터마크만 갱신 → 알림 수와 무관하게 1건 쓰기
     @Transactional
     public void markAllAsRead(Long userId) {
-        List<Notification> notRead = notificationRepository.findByUserIdAndIsReadFalse(userId);
-
-        for (Notification notification : notRead) {
-            notification.markAsRead();
+        Long maxId = notificationRepository.findMaxIdByUserId(userId);
+        if (maxId == null) {
+            return;
         }
 
+        notificationReadMarkerRepository.findById(userId)
+                .ifPresentOrElse(
+                        marker -> marker.advanceTo(maxId),
+                        () -> notificationReadMarkerRepository.save(new NotificationReadMarker(userId, maxId)));
+
+        // 열려 있는 탭에 한 번만 알림 (프론트에서 lastReadId 이하 알림을 읽음 처리)
+        Map<String, Object> response = new HashMap<>();
+        response.put("action", "READ_ALL");
+        response.put("lastReadId", maxId);
+        TransactionCallbacks.afterCommit(() -> {
+            // 워터마크 조회 ~ 커밋 사이에 생긴 알림이 있을 수 있으므로 0 으로 덮지 않고 다음 조회 때 재계산
+            unreadNotificationCounter.evict(userId);
+            userMessageSender.sendToUser(userId, "notification", response);
+        });
     }
 
+    private long getLastReadId(Long userId) {
+        return notificationReadMarkerRepository.findById(userId)
+                .map(NotificationReadMarker::getLastReadId)
+                .orElse(0L);
+    }
 }
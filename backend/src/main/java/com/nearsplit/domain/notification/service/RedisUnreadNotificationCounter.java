@@ -0,0 +1,113 @@
+package com.nearsplit.domain.notification.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * packageName  : com.nearsplit.domain.notification.service
+ * fileName     : RedisUnreadNotificationCounter
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 읽지 않은 알림 개수 - Redis 구현 (notification.unread-counter.store=redis)
+ *                  - 모든 인스턴스가 같은 값을 공유 → 여러 대로 띄워도 배지 숫자 일치
+ *                  - 증감은 Lua 스크립트로 "키가 있을 때만" 원자적으로 처리, 키가 없으면 변경 번호 키만 올림
+ *                  - DB 계산 값 저장도 Lua 스크립트로 "키가 없고 변경 번호가 그대로일 때만" 처리
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ * 2026-10-17(토)                user            set → setIfAbsent (SET NX)
+ * 2026-10-17(토)                user            변경 번호 키 (계산 중 생긴 증감이 있으면 저장 안 함)
+ */
+@Component
+@ConditionalOnProperty(name = "notification.unread-counter.store", havingValue = "redis")
+public class RedisUnreadNotificationCounter implements UnreadNotificationCounter {
+
+    private static final String KEY_PREFIX = "notification:unread:";
+    private static final String VERSION_KEY_PREFIX = "notification:unread-version:";
+
+    // 키가 있으면 증감 후 0 미만이면 0 으로 보정, 없으면 변경 번호만 올림
+    private static final DefaultRedisScript<Long> ADD_OR_BUMP = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                local value = redis.call('INCRBY', KEYS[1], ARGV[1])
+                if value < 0 then
+                    redis.call('SET', KEYS[1], 0, 'KEEPTTL')
+                    return 0
+                end
+                return value
+            end
+            redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[2])
+            return -1
+            """, Long.class);
+
+    // 키가 없고 변경 번호가 계산 전에 읽은 값과 같을 때만 저장 (저장했으면 1)
+    private static final DefaultRedisScript<Long> SET_IF_UNCHANGED = new DefaultRedisScript<>("""
+            local version = redis.call('GET', KEYS[2]) or '0'
+            if version == ARGV[2] and redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[3]) then
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    // 키 삭제 + 변경 번호 올림
+    private static final DefaultRedisScript<Long> EVICT_AND_BUMP = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            local version = redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            return version
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+
+    public RedisUnreadNotificationCounter(StringRedisTemplate redisTemplate,
+                                          @Value("${notification.unread-counter.ttl-seconds:300}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    @Override
+    public Integer get(Long userId) {
+        String value = redisTemplate.opsForValue().get(key(userId));
+        return value != null ? Integer.valueOf(value) : null;
+    }
+
+    @Override
+    public long version(Long userId) {
+        String value = redisTemplate.opsForValue().get(versionKey(userId));
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+
+    @Override
+    public void setIfUnchanged(Long userId, int count, long version) {
+        redisTemplate.execute(SET_IF_UNCHANGED, List.of(key(userId), versionKey(userId)),
+                String.valueOf(Math.max(count, 0)), String.valueOf(version), String.valueOf(ttl.toMillis()));
+    }
+
+    @Override
+    public void add(Long userId, int delta) {
+        redisTemplate.execute(ADD_OR_BUMP, List.of(key(userId), versionKey(userId)),
+                String.valueOf(delta), String.valueOf(ttl.toMillis()));
+    }
+
+    @Override
+    public void evict(Long userId) {
+        redisTemplate.execute(EVICT_AND_BUMP, List.of(key(userId), versionKey(userId)), String.valueOf(ttl.toMillis()));
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    // 변경 번호 키 - 개수 키와 같은 TTL (만료 후에는 0 부터 다시 시작, 계산 ~ 저장 사이 간격보다 충분히 김)
+    private static String versionKey(Long userId) {
+        return VERSION_KEY_PREFIX + userId;
+    }
+}
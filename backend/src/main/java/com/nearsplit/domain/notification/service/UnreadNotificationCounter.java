@@ -0,0 +1,47 @@
+package com.nearsplit.domain.notification.service;
+
+/**
+ * packageName  : com.nearsplit.domain.notification.service
+ * fileName     : UnreadNotificationCounter
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 사용자별 읽지 않은 알림 개수 캐시
+ *                  - 알림 생성/삭제/읽음 시 증감, 값이 없으면 호출부에서 DB 로 다시 계산해서 setIfUnchanged
+ *                  - 값이 없는 사용자에 대한 증감은 개수 대신 변경 번호만 올림
+ *                    → DB 계산 ~ 저장 사이에 커밋된 변경이 있으면 그 계산 값은 저장하지 않음 (낡은 값이 TTL 동안 고정되는 것 방지)
+ *                  - 구현: memory(기본, 인스턴스 로컬) / redis(인스턴스 간 공유)
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ * 2026-10-17(토)                user            set → setIfAbsent (DB 재계산 값이 먼저 채워진 값을 덮지 않도록)
+ * 2026-10-17(토)                user            setIfAbsent → version + setIfUnchanged (계산 중 생긴 증감 유실 방지)
+ */
+public interface UnreadNotificationCounter {
+
+    /**
+     * 캐시된 개수 (없거나 만료되면 null)
+     */
+    Integer get(Long userId);
+
+    /**
+     * 현재 변경 번호 - DB 로 개수를 계산하기 전에 읽어 두고 setIfUnchanged 에 전달
+     */
+    long version(Long userId);
+
+    /**
+     * 값이 없고, version 을 읽은 뒤로 증감/삭제가 없었을 때만 저장
+     * - 먼저 채워진 값은 덮지 않음, 계산 중 변경이 있었으면 저장하지 않음 (다음 조회 때 다시 계산)
+     */
+    void setIfUnchanged(Long userId, int count, long version);
+
+    /**
+     * 캐시된 값이 있으면 delta 만큼 증감 (0 미만으로 내려가지 않음), 없으면 변경 번호만 올림
+     */
+    void add(Long userId, int delta);
+
+    /**
+     * 캐시된 값 삭제 + 변경 번호 올림
+     */
+    void evict(Long userId);
+}
@@ -0,0 +1,21 @@
+package com.nearsplit.domain.payment.event;
+
+/**
+ * packageName  : com.nearsplit.domain.payment.event
+ * fileName     : PaymentEventPayload
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 결제 도메인 이벤트 내용 (결제 승인/취소)
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+public record PaymentEventPayload(
+        Long paymentId,
+        Long groupId,
+        Long payerUserId,           // 결제한 참여자
+        Long hostUserId,            // 그룹 방장 (알림 대상)
+        Integer amount
+) {
+}
@@ -1,13 +1,18 @@
 package com.nearsplit.domain.payment.service;
 
+import com.nearsplit.common.outbox.OutboxEventRecorder;
+import com.nearsplit.common.outbox.OutboxEventType;
+import com.nearsplit.common.util.TransactionCallbacks;
 import com.nearsplit.domain.payment.dto.PaymentConfirmRequest;
 import com.nearsplit.domain.payment.dto.PaymentResponse;
 import com.nearsplit.domain.payment.entity.Payment;
+import com.nearsplit.domain.payment.event.PaymentEventPayload;
 import com.nearsplit.domain.payment.repository.PaymentRepository;
 import com.nearsplit.domain.split_group.entity.Participant;
 import com.nearsplit.domain.split_group.entity.SplitGroup;
 import com.nearsplit.domain.split_group.repository.ParticipantRepository;
 import com.nearsplit.domain.split_group.repository.SplitGroupRepository;
+import com.nearsplit.domain.split_group.service.GroupDetailCache;
 import com.nearsplit.domain.user.entity.User;
 import com.nearsplit.domain.user.repository.UserRepository;
 import com.nearsplit.external.toss.client.TossPaymentClient;
@@ -56,6 +61,12 @@ public class PaymentService {
     // 토스페이먼츠 API 클라이언트
     private final TossPaymentClient tossPaymentClient;
 
+    // 도메인 이벤트 기록 (방장 알림 등 후속 처리)
+    private final OutboxEventRecorder outboxEventRecorder;
+
+    // 참여자 결제 상태가 그룹 상세 응답에 포함되므로 커밋 이후 무효화
+    private final GroupDetailCache groupDetailCache;
+
     // ========================================
     // 결제 승인 API
     // ========================================
@@ -93,6 +104,7 @@ public class PaymentService {
 
         // 도메인 메서드로 결제 가능 여부 검증 + 상태 전이 (APPROVED → PAID)
         participant.markAsPaid();
+        TransactionCallbacks.afterCommit(() -> groupDetailCache.invalidate(group.getId()));
 
         // 2. TossPaymentClient로 결제 승인 API 호출
         TossPaymentResponse tossResponse = tossPaymentClient.confirmPayment(
@@ -109,6 +121,11 @@ public class PaymentService {
         log.info("결제 승인 성공: paymentKey={}, status={}",
                 payment.getPaymentKey(), payment.getStatus());
 
+        // 5. 결제 승인 이벤트 기록 (같은 트랜잭션)
+        outboxEventRecorder.record(OutboxEventType.PAYMENT_CONFIRMED, payment.getId(),
+                new PaymentEventPayload(payment.getId(), participant.getSplitGroup().getId(), userId,
+                        participant.getSplitGroup().getHostUserId(), payment.getAmount()));
+
         // 6. 응답 반환
         return PaymentResponse.from(payment);
     }
@@ -159,6 +176,13 @@ public class PaymentService {
 
         // 도메인 메서드로 결제 취소 검증 + 상태 전이 (PAID → APPROVED)
         participant.cancelPayment();
+        Long groupId = payment.getGroup().getId();
+        TransactionCallbacks.afterCommit(() -> groupDetailCache.invalidate(groupId));
+
+        // 4. 결제 취소 이벤트 기록 (같은 트랜잭션)
+        outboxEventRecorder.record(OutboxEventType.PAYMENT_CANCELED, payment.getId(),
+                new PaymentEventPayload(payment.getId(), payment.getGroup().getId(), userId,
+                        payment.getGroup().getHostUserId(), payment.getAmount()));
 
         log.info("결제 취소 성공: paymentKey={}", paymentKey);
 
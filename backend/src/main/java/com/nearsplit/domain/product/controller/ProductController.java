@@ -1,6 +1,7 @@
 package com.nearsplit.domain.product.controller;
 
 import com.nearsplit.common.dto.ApiResponse;
+import com.nearsplit.common.util.ETags;
 import com.nearsplit.domain.product.dto.ProductRequest;
 import com.nearsplit.domain.product.dto.ProductResponse;
 import com.nearsplit.domain.product.entity.Product;
@@ -13,6 +14,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/products")
@@ -34,15 +36,23 @@ public class ProductController {
         );
     }
 
-    // 상품 단건 조회
+    // 상품 단건 조회 (조건부 GET - 버전이 같으면 엔티티 조회 없이 304)
     @GetMapping("/{productId}")
     public ResponseEntity<ApiResponse<ProductResponse>> getProduct(
-            @PathVariable Long productId) {
+            @PathVariable Long productId, WebRequest webRequest) {
+
+        String etag = ETags.of(productService.getProductVersion(productId));
+        if (webRequest.checkNotModified(etag)) {
+            return ETags.notModified(etag);
+        }
 
         Product product = productService.getProduct(productId);
         ProductResponse response = ProductResponse.from(product);
 
-        return ResponseEntity.ok(ApiResponse.success(response));
+        return ResponseEntity.ok()
+                .cacheControl(ETags.CACHE_CONTROL)
+                .eTag(ETags.of(product.getVersion()))
+                .body(ApiResponse.success(response));
     }
 
     // 전체 목록 조회 (페이징)
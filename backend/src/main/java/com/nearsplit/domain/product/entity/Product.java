@@ -1,9 +1,13 @@
 package com.nearsplit.domain.product.entity;
 
+import com.nearsplit.config.HibernateCacheConfig;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -21,9 +25,12 @@ import java.time.LocalDateTime;
  * DATE                   AUTHOR          NOTE
  * ---------------------------------------------------
  * 2026-01-15(목)                user            최초 생성
+ * 2026-10-17(토)                user            2차 캐시 적용
  */
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.PRODUCT_REGION)    // 2차 캐시 (id 조회)
 @Table(name = "products")
 @Getter @Builder
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -51,6 +58,9 @@ public class Product {
     private LocalDateTime createdAt;
     @LastModifiedDate
     private LocalDateTime updatedAt;
+    @Version
+    @ColumnDefault("0")
+    private Long version;           // 변경 시마다 증가 (낙관적 락 + 조건부 GET ETag)
 
     // ========================================
     // 정적 팩토리 메서드
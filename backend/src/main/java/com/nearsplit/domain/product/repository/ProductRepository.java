@@ -1,9 +1,13 @@
 package com.nearsplit.domain.product.repository;
 
 import com.nearsplit.domain.product.entity.Product;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -18,12 +22,20 @@ import java.util.Optional;
  * DATE                   AUTHOR          NOTE
  * ---------------------------------------------------
  * 2026-01-20(화)                user            최초 생성
+ * 2026-10-17(토)                user            목록/검색 쿼리 캐시
  */
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
     Optional<Product> findById(long id);
+    // 목록/검색은 쿼리 캐시 사용 (products 변경 시 자동 무효화, 개수 쿼리 포함)
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     Page<Product> findAll(Pageable pageable);
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     Page<Product> findByNameContaining(String name, Pageable pageable);
 
     Optional<Product> findByExternalIdAndExternalSource(String externalId, String externalSource);
+
+    // 조건부 GET 용 버전만 조회 (엔티티 로딩 X)
+    @Query("SELECT p.version FROM Product p WHERE p.id = :productId")
+    Optional<Long> findVersionById(@Param("productId") long productId);
 }
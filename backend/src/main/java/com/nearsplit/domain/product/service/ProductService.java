@@ -71,6 +71,12 @@ public class ProductService {
             .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
     }
 
+    // 조건부 GET 용 버전 (엔티티 로딩 X)
+    public Long getProductVersion(Long productId) {
+        return productRepository.findVersionById(productId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
+    }
+
     // 전체 목록 조회 (페이징)
     public Page<Product> getAllProducts(Pageable pageable) {
         return productRepository.findAll(pageable);
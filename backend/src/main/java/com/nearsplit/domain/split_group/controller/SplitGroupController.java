@@ -1,6 +1,9 @@
 package com.nearsplit.domain.split_group.controller;
 
 import com.nearsplit.common.dto.ApiResponse;
+import com.nearsplit.common.dto.CursorResponse;
+import com.nearsplit.common.util.ETags;
+import com.nearsplit.common.util.OptimisticLockRetrier;
 import com.nearsplit.domain.split_group.dto.*;
 import com.nearsplit.domain.split_group.entity.Participant;
 import com.nearsplit.domain.split_group.entity.SplitGroup;
@@ -16,8 +19,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -27,6 +30,7 @@ import java.util.stream.Stream;
 @Slf4j
 public class SplitGroupController {
     private final SplitGroupService splitGroupService;
+    private final OptimisticLockRetrier optimisticLockRetrier;
 
     @GetMapping
     /*  // 기존 거리 계산 없을 때 사용 했던 전체 그룹 조회
@@ -51,6 +55,19 @@ public class SplitGroupController {
         return ResponseEntity.ok().body(response);
     }
 
+    // 반경/정렬 지정 주변 그룹 검색 (커서 페이징) - nextCursor 를 다음 요청 cursor 로 전달
+    @GetMapping("/nearby")
+    public ResponseEntity<ApiResponse<CursorResponse<NearbyGroupResponse>>> searchNearbyGroups(
+            @AuthenticationPrincipal Long userId,
+            @RequestParam(required = false) Integer radius,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "DISTANCE") NearbySearchSort sort) {
+
+        CursorResponse<NearbyGroupResponse> response = splitGroupService.searchNearbyGroups(userId, radius, size, cursor, sort);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @PostMapping
     public ResponseEntity<SplitGroupResponse> createGroup(@AuthenticationPrincipal Long userId, @Validated @RequestBody SplitGroupRequest splitGroupRequest) {
         SplitGroup splitGroup = splitGroupService.createSplitGroup(userId, splitGroupRequest);
@@ -59,38 +76,41 @@ public class SplitGroupController {
 
     @GetMapping("/my")    // 나중에 사용자 ID나 타이틀로도 조회할 수 있어야하긴 하는데..
     public ResponseEntity<List<SplitGroupSummaryResponse>> getUserByAllGroup(@AuthenticationPrincipal Long userId) {
-
-        List<Participant> participantList = splitGroupService.getMySplitGroups(userId);
-
-        List<SplitGroupSummaryResponse> responses = new ArrayList<>();  // 본인이 관리장이 아닌 디테일->마스터 기본 정보(번호,제목,인원,금액 등)
-
-        for (Participant participant : participantList) {
-            responses.add(SplitGroupSummaryResponse.from(participant));
-        }
-
-        return ResponseEntity.ok().body(responses);
+        // 방장/참여 그룹 모두 - 조회 모델에서 응답 DTO 로 바로 조회
+        return ResponseEntity.ok().body(splitGroupService.getMySplitGroups(userId));
     }
 
+    // 조건부 GET - If-None-Match 가 현재 버전과 같으면 상세 조회/직렬화 없이 304
     @GetMapping("/{groupId}")
-    public ResponseEntity<ApiResponse<SplitGroupResponse>> getSplitGroup(@PathVariable Long groupId, @AuthenticationPrincipal Long userId) {
-        SplitGroup splitGroup = splitGroupService.getSplitGroup(groupId, userId);
-        return ResponseEntity.ok((ApiResponse.success(SplitGroupResponse.from(splitGroup))));
+    public ResponseEntity<ApiResponse<SplitGroupResponse>> getSplitGroup(@PathVariable Long groupId, WebRequest webRequest) {
+        GroupDetailVersion version = splitGroupService.getSplitGroupVersion(groupId);
+        if (webRequest.checkNotModified(version.toETag())) {
+            return ETags.notModified(version.toETag());
+        }
+        GroupDetail detail = splitGroupService.getSplitGroup(groupId, version);
+        return ResponseEntity.ok()
+                .cacheControl(ETags.CACHE_CONTROL)
+                .eTag(detail.version().toETag())
+                .body(ApiResponse.success(detail.response()));
     }
 
     @PatchMapping("/{groupId}")
     public ResponseEntity<?> updateSplitGroup(@PathVariable Long groupId, @AuthenticationPrincipal Long userId
             , @RequestBody SplitGroupRequest groupRequest) {
-        return ResponseEntity.ok().body(splitGroupService.updateSplitGroup(groupId, userId, groupRequest));
+        return ResponseEntity.ok().body(optimisticLockRetrier.execute(
+                () -> splitGroupService.updateSplitGroup(groupId, userId, groupRequest)));
     }
 
     @DeleteMapping("/{groupId}")
     public ResponseEntity<?> deleteSplitGroup(@PathVariable Long groupId, @AuthenticationPrincipal Long userId) {
-        return ResponseEntity.ok().body(splitGroupService.deleteSplitGroup(groupId, userId));
+        return ResponseEntity.ok().body(optimisticLockRetrier.execute(
+                () -> splitGroupService.deleteSplitGroup(groupId, userId)));
     }
 
     @PostMapping("/{groupId}/join")
     public ResponseEntity<ApiResponse<ParticipantResponse>> joinSplitGroup(@PathVariable Long groupId, @AuthenticationPrincipal Long userId) {
-        Participant participant = splitGroupService.joinSplitGroup(groupId, userId);
+        // 신청 도중 그룹이 승인/수정되면 다시 읽어서 재검증 (그 사이 마감됐으면 검증 예외)
+        Participant participant = optimisticLockRetrier.execute(() -> splitGroupService.joinSplitGroup(groupId, userId));
         ParticipantResponse response = ParticipantResponse.from(participant);
         return ResponseEntity.ok().body(ApiResponse.success(response));
     }
@@ -117,6 +137,23 @@ public class SplitGroupController {
         return ResponseEntity.ok(ParticipantResponse.from(updated));
     }
 
+    // 일괄 승인 - 요청 순서대로 승인, 정원이 차면 나머지는 skippedUserIds 로 반환
+    @PostMapping("/{groupId}/approve/batch")
+    public ResponseEntity<ApiResponse<ParticipantBatchActionResponse>> approveParticipants(@PathVariable Long groupId, @AuthenticationPrincipal Long hostId,
+                                                                                          @Validated @RequestBody ParticipantBatchActionRequest request) {
+        ParticipantBatchActionResponse response = optimisticLockRetrier.execute(
+                () -> splitGroupService.approveParticipants(groupId, hostId, request));
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @PostMapping("/{groupId}/reject/batch")
+    public ResponseEntity<ApiResponse<ParticipantBatchActionResponse>> rejectParticipants(@PathVariable Long groupId, @AuthenticationPrincipal Long hostId,
+                                                                                         @Validated @RequestBody ParticipantBatchActionRequest request) {
+        ParticipantBatchActionResponse response = optimisticLockRetrier.execute(
+                () -> splitGroupService.rejectParticipants(groupId, hostId, request));
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @GetMapping("/{groupId}/participants")
     public ResponseEntity<?> getParticipantCount(@PathVariable Long groupId, @AuthenticationPrincipal Long userId) {
         long participantCount = splitGroupService.getParticipantCount(groupId, userId);
@@ -0,0 +1,15 @@
+package com.nearsplit.domain.split_group.dto;
+
+/**
+ * packageName  : com.nearsplit.domain.split_group.dto
+ * fileName     : GroupDetail
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 그룹 상세 응답 + 응답을 만든 시점의 버전 (캐시 항목 / ETag 헤더용)
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+public record GroupDetail(GroupDetailVersion version, SplitGroupResponse response) {
+}
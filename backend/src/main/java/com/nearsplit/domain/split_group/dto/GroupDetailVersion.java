@@ -0,0 +1,41 @@
+package com.nearsplit.domain.split_group.dto;
+
+import com.nearsplit.common.util.ETags;
+
+import java.time.LocalDateTime;
+
+/**
+ * packageName  : com.nearsplit.domain.split_group.dto
+ * fileName     : GroupDetailVersion
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 그룹 상세 응답의 버전 (조건부 GET ETag 용)
+ *                  - 그룹 @Version + 참여자 수 + 참여자 최종 수정 시각 + 방장/참여자 프로필 최종 수정 시각
+ *                  - 참여 신청/취소(행 추가/삭제), 결제 상태 변경처럼 그룹 행이 바뀌지 않는 변경도 반영
+ *                  - 닉네임 변경도 반영 (users.updated_at) → 낡은 닉네임에 304 를 주지 않음
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ * 2026-10-17(토)                user            멤버 프로필 수정 시각 추가 (닉네임 변경 반영)
+ */
+public record GroupDetailVersion(Long version, Long participantCount, LocalDateTime participantUpdatedAt,
+                                 LocalDateTime profileUpdatedAt) {
+
+    // JPQL 집계용 - 방장 / 참여자 프로필 수정 시각 중 최신 값
+    public GroupDetailVersion(Long version, Long participantCount, LocalDateTime participantUpdatedAt,
+                              LocalDateTime hostProfileUpdatedAt, LocalDateTime participantProfileUpdatedAt) {
+        this(version, participantCount, participantUpdatedAt, latest(hostProfileUpdatedAt, participantProfileUpdatedAt));
+    }
+
+    public String toETag() {
+        return ETags.of(version, participantCount, participantUpdatedAt, profileUpdatedAt);
+    }
+
+    public static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        if (a == null) {
+            return b;
+        }
+        return b == null || a.isAfter(b) ? a : b;
+    }
+}
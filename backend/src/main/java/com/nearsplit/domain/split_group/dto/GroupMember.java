@@ -0,0 +1,15 @@
+package com.nearsplit.domain.split_group.dto;
+
+/**
+ * packageName  : com.nearsplit.domain.split_group.dto
+ * fileName     : GroupMember
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : (그룹 ID, 사용자 ID) 쌍 - 여러 그룹의 방장/참여자를 쿼리 1번으로 모을 때 사용
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+public record GroupMember(Long groupId, Long userId) {
+}
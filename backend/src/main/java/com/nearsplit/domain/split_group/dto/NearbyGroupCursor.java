@@ -0,0 +1,63 @@
+package com.nearsplit.domain.split_group.dto;
+
+import com.nearsplit.common.exception.BusinessException;
+import com.nearsplit.common.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * packageName  : com.nearsplit.domain.split_group.dto
+ * fileName     : NearbyGroupCursor
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 주변 그룹 검색 커서 (마지막 항목의 정렬 키 + id)
+ *                  - DISTANCE: (distance, id) 다음부터
+ *                  - RECENT  : (createdAt, id) 이전부터
+ *                  - 클라이언트에는 Base64 문자열로 전달 (내부 구조 노출 X)
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+public record NearbyGroupCursor(NearbySearchSort sort, double distance, LocalDateTime createdAt, long id) {
+
+    // 첫 페이지용 - 어떤 행보다도 앞서는 값
+    private static final LocalDateTime MAX_CREATED_AT = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    public static NearbyGroupCursor first(NearbySearchSort sort) {
+        return sort == NearbySearchSort.DISTANCE
+                ? new NearbyGroupCursor(sort, -1, null, 0)
+                : new NearbyGroupCursor(sort, 0, MAX_CREATED_AT, Long.MAX_VALUE);
+    }
+
+    public static NearbyGroupCursor after(NearbySearchSort sort, NearbyGroupProjection last) {
+        return new NearbyGroupCursor(sort, last.getDistance(), last.getCreatedAt(), last.getId());
+    }
+
+    public String encode() {
+        String key = sort == NearbySearchSort.DISTANCE ? String.valueOf(distance) : createdAt.toString();
+        String raw = sort.name() + "|" + key + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static NearbyGroupCursor decode(String cursor, NearbySearchSort sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return first(sort);
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3 || NearbySearchSort.valueOf(parts[0]) != sort) {
+                throw new IllegalArgumentException("정렬 기준이 다른 커서");
+            }
+            long id = Long.parseLong(parts[2]);
+            return sort == NearbySearchSort.DISTANCE
+                    ? new NearbyGroupCursor(sort, Double.parseDouble(parts[1]), null, id)
+                    : new NearbyGroupCursor(sort, 0, LocalDateTime.parse(parts[1]), id);
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "유효하지 않은 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.nearsplit.domain.split_group.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * packageName  : com.nearsplit.domain.split_group.dto
+ * fileName     : NearbyGroupProjection
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 주변 그룹 검색 native 쿼리 결과 (엔티티 대신 필요한 컬럼 + 계산된 거리만)
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+public interface NearbyGroupProjection {
+    Long getId();
+    String getTitle();
+    BigDecimal getTotalPrice();
+    Integer getMaxParticipants();
+    Integer getCurrentParticipants();
+    String getPickupLocation();
+    Double getLatitude();
+    Double getLongitude();
+    String getStatus();
+    Long getHostUserId();
+    LocalDate getClosedAt();
+    LocalDateTime getCreatedAt();
+    Double getDistance();       // 기준 좌표와의 거리(m)
+}
@@ -0,0 +1,57 @@
+package com.nearsplit.domain.split_group.dto;
+
+import com.nearsplit.domain.split_group.entity.SplitGroupStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * packageName  : com.nearsplit.domain.split_group.dto
+ * fileName     : NearbyGroupResponse
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 주변 그룹 검색 응답 (목록 화면용 - 참여자 목록 제외, 거리 포함)
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class NearbyGroupResponse {
+    private Long id;
+    private String title;
+    private BigDecimal totalPrice;
+    private int maxParticipants;
+    private int currentParticipants;
+    private String pickupLocation;
+    private Double latitude;        // 픽업 위치 위도
+    private Double longitude;       // 픽업 위치 경도
+    private SplitGroupStatus groupState;
+    private Long hostUserId;
+    private LocalDate closedAt;     // 마감일
+    private LocalDate createdAt;
+    private double distance;        // 사용자 위치와의 거리(m)
+
+    public static NearbyGroupResponse from(NearbyGroupProjection projection) {
+        return NearbyGroupResponse.builder()
+                .id(projection.getId())
+                .title(projection.getTitle())
+                .totalPrice(projection.getTotalPrice())
+                .maxParticipants(projection.getMaxParticipants())
+                .currentParticipants(projection.getCurrentParticipants())
+                .pickupLocation(projection.getPickupLocation())
+                .latitude(projection.getLatitude())
+                .longitude(projection.getLongitude())
+                .groupState(SplitGroupStatus.valueOf(projection.getStatus()))
+                .hostUserId(projection.getHostUserId())
+                .closedAt(projection.getClosedAt())
+                .createdAt(projection.getCreatedAt() != null ? projection.getCreatedAt().toLocalDate() : null)
+                .distance(projection.getDistance())
+                .build();
+    }
+}
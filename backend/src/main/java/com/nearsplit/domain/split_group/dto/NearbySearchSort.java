@@ -0,0 +1,17 @@
+package com.nearsplit.domain.split_group.dto;
+
+/**
+ * packageName  : com.nearsplit.domain.split_group.dto
+ * fileName     : NearbySearchSort
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 주변 그룹 검색 정렬 기준
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+public enum NearbySearchSort {
+    DISTANCE,   // 가까운 순
+    RECENT      // 최신 생성순
+}
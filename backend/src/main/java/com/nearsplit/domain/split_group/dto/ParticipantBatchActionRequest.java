@@ -0,0 +1,32 @@
+package com.nearsplit.domain.split_group.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * packageName  : com.nearsplit.domain.split_group.dto
+ * fileName     : ParticipantBatchActionRequest
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 그룹 참여자 일괄 처리(승인,거절) 요청 DTO
+ *                  - 요청 순서대로 처리 (일괄 승인 시 정원이 차면 뒤쪽 신청은 건너뜀)
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ParticipantBatchActionRequest {
+    @NotEmpty
+    @Size(max = 100)
+    private List<@NotNull Long> participantUserIds;
+    private String reason;      // 거절인 경우에만 이유
+    // splitGroupId는 pathVariable 로 넘어옴
+}
@@ -0,0 +1,26 @@
+package com.nearsplit.domain.split_group.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * packageName  : com.nearsplit.domain.split_group.dto
+ * fileName     : ParticipantBatchActionResponse
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 그룹 참여자 일괄 처리 결과
+ *                  - processedUserIds : 승인/거절된 사용자
+ *                  - skippedUserIds   : 신청 내역 없음 / 대기 상태 아님 / 정원 마감으로 처리하지 않은 사용자
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+@Getter
+@AllArgsConstructor
+public class ParticipantBatchActionResponse {
+    private List<Long> processedUserIds;
+    private List<Long> skippedUserIds;
+}
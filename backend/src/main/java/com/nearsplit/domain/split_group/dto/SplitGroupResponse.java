@@ -3,7 +3,6 @@ package com.nearsplit.domain.split_group.dto;
 import com.nearsplit.domain.split_group.entity.Participant;
 import com.nearsplit.domain.split_group.entity.SplitGroup;
 import com.nearsplit.domain.split_group.entity.SplitGroupStatus;
-import com.querydsl.core.Tuple;
 import org.locationtech.jts.geom.Point;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -15,9 +14,6 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 
-import static com.nearsplit.domain.split_group.entity.QSplitGroup.splitGroup;
-import static com.nearsplit.domain.user.entity.QUser.user;
-
 @Getter
 @Setter
 @Builder
@@ -64,28 +60,4 @@ public class SplitGroupResponse {
                         .toList())
                 .build();
     }
-    public static SplitGroupResponse from(Tuple tuple) {
-        SplitGroup group = tuple.get(splitGroup);
-        String nickname = tuple.get(user.nickname);
-        Point loc = group.getLocation();
-
-        return SplitGroupResponse.builder()
-                .id(group.getId())
-                .title(group.getTitle())
-                .totalPrice(group.getTotalPrice())
-                .maxParticipants(group.getMaxParticipants())
-                .pickupLocation(group.getPickupLocation())
-                .latitude(loc != null ? loc.getY() : null)
-                .longitude(loc != null ? loc.getX() : null)
-                .groupState(group.getStatus())
-                .hostUserId(group.getHostUserId())
-                .hostNickname(nickname)
-                .currentParticipants(group.getCurrentParticipants())
-                .closedAt(group.getClosedAt())
-                .createdAt(group.getCreatedAt().toLocalDate())
-                .participants(group.getParticipants().stream()
-                        .map(ParticipantResponse::from)
-                        .toList())
-                .build();
-    }
 }
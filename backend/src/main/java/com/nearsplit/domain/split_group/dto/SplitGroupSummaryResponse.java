@@ -1,7 +1,5 @@
 package com.nearsplit.domain.split_group.dto;
 
-import com.nearsplit.domain.split_group.entity.Participant;
-import com.nearsplit.domain.split_group.entity.SplitGroup;
 import com.nearsplit.domain.split_group.entity.SplitGroupStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -15,11 +13,12 @@ import java.time.LocalDate;
  * fileName     : SplitGroupSummaryResponse
  * author       : jcy
  * date         : 2026-01-05(월)
- * description   :
+ * description   : 내 그룹 목록 항목 (MySplitGroupRepository 에서 생성자 프로젝션으로 바로 조회)
  * ===================================================
  * DATE                   AUTHOR          NOTE
  * ---------------------------------------------------
  * 2026-01-05(월)          jcy            최초 생성
+ * 2026-10-17(토)                user            Participant 변환 제거 (조회 모델 프로젝션)
  */
 
 @Getter
@@ -34,19 +33,4 @@ public class SplitGroupSummaryResponse {
     private SplitGroupStatus status;      // 추가
     private LocalDate closedAt;           // 추가
     private Boolean isHost;               // 추가 (방장 여부)
-
-    public static SplitGroupSummaryResponse from(Participant participant) {     // 호스트 유무 체크하기 위해서 파티원 엔티티 받음
-        SplitGroup splitGroup = participant.getSplitGroup();
-
-        return SplitGroupSummaryResponse.builder()
-                .groupId(splitGroup.getId())
-                .title(splitGroup.getTitle())
-                .totalPrice(splitGroup.getTotalPrice())
-                .currentParticipants(splitGroup.getCurrentParticipants())
-                .maxParticipants(splitGroup.getMaxParticipants())
-                .status(splitGroup.getStatus())
-                .closedAt(splitGroup.getClosedAt())
-                .isHost(participant.getUserId().equals(splitGroup.getHostUserId()))
-                .build();
-    }
 }
@@ -0,0 +1,73 @@
+package com.nearsplit.domain.split_group.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * packageName  : com.nearsplit.domain.split_group.entity
+ * fileName     : MySplitGroup
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 내 그룹 목록 조회 모델 (사용자 × 그룹 1행, 방장 + 참여자)
+ *                  - GET /api/split/my 를 (user_id, split_group_id) 인덱스 스캔 1번으로 응답 (그룹/참여자 엔티티 로딩 X)
+ *                  - 그룹 컬럼(제목, 인원, 상태 등)은 split_group 복사본 → 그룹이 바뀌는 트랜잭션에서 같이 갱신
+ *                  - 갱신은 SplitGroupService 가 MySplitGroupRepository 로 처리
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+@Entity
+@Table(name = "my_split_group",
+        uniqueConstraints = @UniqueConstraint(name = "uk_my_split_group_user_group", columnNames = {"user_id", "split_group_id"}),
+        indexes = @Index(name = "idx_my_split_group_group", columnList = "split_group_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MySplitGroup {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    @Column(name = "split_group_id", nullable = false)
+    private Long splitGroupId;
+    @Column(name = "is_host", nullable = false)
+    private Boolean host;               // 방장 행 여부
+
+    // split_group 복사 컬럼
+    @Column(length = 50)
+    private String title;
+    private BigDecimal totalPrice;
+    @Column(nullable = false)
+    private Integer currentParticipants;
+    @Column(nullable = false)
+    private Integer maxParticipants;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private SplitGroupStatus status;
+    private LocalDate closedAt;
+
+    private LocalDateTime joinedAt;     // 그룹 생성 / 참여 신청 시각
+
+    public static MySplitGroup of(SplitGroup splitGroup, Long userId) {
+        MySplitGroup row = new MySplitGroup();
+        row.userId = userId;
+        row.splitGroupId = splitGroup.getId();
+        row.host = userId.equals(splitGroup.getHostUserId());
+        row.title = splitGroup.getTitle();
+        row.totalPrice = splitGroup.getTotalPrice();
+        row.currentParticipants = splitGroup.getCurrentParticipants();
+        row.maxParticipants = splitGroup.getMaxParticipants();
+        row.status = splitGroup.getStatus();
+        row.closedAt = splitGroup.getClosedAt();
+        row.joinedAt = LocalDateTime.now();
+        return row;
+    }
+}
@@ -10,6 +10,10 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(name = "participant", uniqueConstraints = {
+        // 같은 그룹에 같은 사용자 신청은 1건 (동시 신청 중복 방지)
+        @UniqueConstraint(name = "uk_participant_group_user", columnNames = {"split_group_id", "user_id"})
+})
 @EntityListeners(AuditingEntityListener.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter @Builder
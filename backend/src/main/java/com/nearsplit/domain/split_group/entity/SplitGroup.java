@@ -2,6 +2,7 @@ package com.nearsplit.domain.split_group.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.locationtech.jts.geom.Point;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -31,6 +32,7 @@ public class SplitGroup {
 
     @Column(columnDefinition = "geometry(Point, 4326)")
     private Point location;         // 픽업 위치 좌표 (PostGIS Point, WGS84)
+                                    // 운영 DB 에는 반경 검색용 파생 컬럼 location_geog(geography) 가 별도로 존재 (V2 마이그레이션, 매핑 X)
 
     @JoinColumn(name = "product_id")
     private Long productId;
@@ -51,6 +53,9 @@ public class SplitGroup {
     private LocalDateTime createdAt;
     @LastModifiedDate
     private LocalDateTime updatedAt;
+    @Version
+    @ColumnDefault("0")
+    private Long version;           // 변경 시마다 증가 (낙관적 락 + 조건부 GET ETag)
 
     @OneToMany(mappedBy = "splitGroup", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
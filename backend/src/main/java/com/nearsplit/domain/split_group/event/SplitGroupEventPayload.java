@@ -0,0 +1,38 @@
+package com.nearsplit.domain.split_group.event;
+
+import java.util.List;
+
+/**
+ * packageName  : com.nearsplit.domain.split_group.event
+ * fileName     : SplitGroupEventPayload
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 소분 그룹 도메인 이벤트 내용 (참여 신청/승인/거절/모집 완료/마감)
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+public record SplitGroupEventPayload(
+        Long groupId,
+        Long hostUserId,            // 방장
+        Long participantUserId,     // 신청/승인/거절 대상 (모집 완료 / 일괄 처리 이벤트는 null)
+        List<Long> memberUserIds    // 모집 완료/마감 시 알림 받을 참여자 목록, 일괄 승인/거절 대상 목록
+) {
+    public static SplitGroupEventPayload of(Long groupId, Long hostUserId, Long participantUserId) {
+        return new SplitGroupEventPayload(groupId, hostUserId, participantUserId, List.of());
+    }
+
+    // 일괄 승인/거절 - 대상 여러 명을 이벤트 1건으로
+    public static SplitGroupEventPayload ofMembers(Long groupId, Long hostUserId, List<Long> memberUserIds) {
+        return new SplitGroupEventPayload(groupId, hostUserId, null, List.copyOf(memberUserIds));
+    }
+
+    // 승인/거절 알림 대상 (단건이면 participantUserId, 일괄이면 memberUserIds)
+    public List<Long> targetUserIds() {
+        if (participantUserId != null) {
+            return List.of(participantUserId);
+        }
+        return memberUserIds == null ? List.of() : memberUserIds;
+    }
+}
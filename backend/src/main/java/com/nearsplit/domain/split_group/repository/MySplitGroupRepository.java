@@ -0,0 +1,62 @@
+package com.nearsplit.domain.split_group.repository;
+
+import com.nearsplit.domain.split_group.dto.SplitGroupSummaryResponse;
+import com.nearsplit.domain.split_group.entity.MySplitGroup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * packageName  : com.nearsplit.domain.split_group.repository
+ * fileName     : MySplitGroupRepository
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 내 그룹 목록 조회 모델 조회/갱신
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+@Repository
+public interface MySplitGroupRepository extends JpaRepository<MySplitGroup, Long> {
+
+    // 내 그룹 목록 - uk_my_split_group_user_group (user_id, split_group_id) 스캔, 최근 그룹 먼저
+    @Query("""
+            SELECT new com.nearsplit.domain.split_group.dto.SplitGroupSummaryResponse(
+                m.splitGroupId, m.title, m.totalPrice, m.currentParticipants, m.maxParticipants,
+                m.status, m.closedAt, m.host)
+            FROM MySplitGroup m
+            WHERE m.userId = :userId
+            ORDER BY m.splitGroupId DESC
+            """)
+    List<SplitGroupSummaryResponse> findSummariesByUserId(@Param("userId") Long userId);
+
+    /**
+     * 그룹 컬럼 다시 복사 (그룹 수정/승인/상태 변경 후)
+     * - split_group 에서 직접 읽어 오므로 벌크 UPDATE(정원 슬롯 확보, 자동 마감)로 바뀐 값도 반영
+     * - 그룹당 멤버 행만 갱신 (idx_my_split_group_group)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE MySplitGroup m
+            SET m.title = (SELECT g.title FROM SplitGroup g WHERE g.id = m.splitGroupId),
+                m.totalPrice = (SELECT g.totalPrice FROM SplitGroup g WHERE g.id = m.splitGroupId),
+                m.currentParticipants = (SELECT g.currentParticipants FROM SplitGroup g WHERE g.id = m.splitGroupId),
+                m.maxParticipants = (SELECT g.maxParticipants FROM SplitGroup g WHERE g.id = m.splitGroupId),
+                m.status = (SELECT g.status FROM SplitGroup g WHERE g.id = m.splitGroupId),
+                m.closedAt = (SELECT g.closedAt FROM SplitGroup g WHERE g.id = m.splitGroupId)
+            WHERE m.splitGroupId IN :splitGroupIds
+            """)
+    int refreshGroupColumns(@Param("splitGroupIds") Collection<Long> splitGroupIds);
+
+    // 참여 취소 / 거절 - 해당 사용자 행 삭제
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM MySplitGroup m WHERE m.splitGroupId = :splitGroupId AND m.userId IN :userIds")
+    int deleteBySplitGroupIdAndUserIdIn(@Param("splitGroupId") Long splitGroupId,
+                                        @Param("userIds") Collection<Long> userIds);
+}
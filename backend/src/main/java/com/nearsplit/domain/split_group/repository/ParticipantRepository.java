@@ -1,12 +1,17 @@
 package com.nearsplit.domain.split_group.repository;
 
+import com.nearsplit.domain.split_group.dto.GroupMember;
 import com.nearsplit.domain.split_group.entity.Participant;
 import com.nearsplit.domain.split_group.entity.ParticipantStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,14 +22,48 @@ public interface ParticipantRepository extends JpaRepository<Participant, Long>
 
     List<Participant> findByUserId(Long userId);
 
-    @Query("SELECT p FROM Participant p " +
-            "JOIN FETCH p.splitGroup " +  // ← Fetch Join
-            "WHERE p.userId = :userId")
-    List<Participant> findByUserIdWithGroup(@Param("userId") Long userId);
-
     Optional<Participant> findBySplitGroupIdAndUserId(Long splitGroupId, Long userId);
 
+    // 일괄 승인/거절 대상 (한 번에 조회)
+    List<Participant> findBySplitGroupIdAndUserIdIn(Long splitGroupId, Collection<Long> userIds);
+
     boolean existsBySplitGroupIdAndUserId(Long splitGroupId, Long userId);
 
+    // 그룹 멤버십 캐시 적재용 (상태 무관 참여자 ID 목록)
+    @Query("SELECT p.userId FROM Participant p WHERE p.splitGroup.id = :splitGroupId")
+    List<Long> findUserIdsBySplitGroupId(@Param("splitGroupId") Long splitGroupId);
+
+    // 여러 그룹 참여자 한 번에 조회 (자동 마감 알림 대상)
+    @Query("""
+            SELECT new com.nearsplit.domain.split_group.dto.GroupMember(p.splitGroup.id, p.userId)
+            FROM Participant p
+            WHERE p.splitGroup.id IN :splitGroupIds
+            """)
+    List<GroupMember> findMembersBySplitGroupIdIn(@Param("splitGroupIds") Collection<Long> splitGroupIds);
+
     long countBySplitGroupIdAndStatus(Long splitGroupId, ParticipantStatus status);
+
+    // PENDING → APPROVED (조건부 UPDATE) - 같은 신청을 동시에 두 번 승인해도 1건만 성공
+    // 벌크 UPDATE 는 Auditing 을 거치지 않으므로 updatedAt 직접 갱신 (그룹 상세 ETag 기준)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Participant p
+            SET p.status = com.nearsplit.domain.split_group.entity.ParticipantStatus.APPROVED,
+                p.shareAmount = :shareAmount,
+                p.updatedAt = :now
+            WHERE p.id = :participantId
+              AND p.status = com.nearsplit.domain.split_group.entity.ParticipantStatus.PENDING
+            """)
+    int approveIfPending(@Param("participantId") Long participantId,
+                         @Param("shareAmount") BigDecimal shareAmount,
+                         @Param("now") LocalDateTime now);
+
+    // 일괄 거절 - 대기 중인 신청만 삭제 (그 사이 승인된 신청은 남김, 삭제 건수로 확인)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            DELETE FROM Participant p
+            WHERE p.id IN :participantIds
+              AND p.status = com.nearsplit.domain.split_group.entity.ParticipantStatus.PENDING
+            """)
+    int deletePendingByIdIn(@Param("participantIds") Collection<Long> participantIds);
 }
@@ -1,14 +1,23 @@
 package com.nearsplit.domain.split_group.repository;
 
+import com.nearsplit.domain.split_group.dto.GroupDetailVersion;
+import com.nearsplit.domain.split_group.dto.GroupMember;
+import com.nearsplit.domain.split_group.dto.NearbyGroupProjection;
 import com.nearsplit.domain.split_group.entity.SplitGroup;
 import com.nearsplit.domain.split_group.entity.SplitGroupStatus;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,13 +37,152 @@ public interface SplitGroupRepository extends JpaRepository<SplitGroup, Long>, S
 
     boolean existsByIdAndHostUserId(Long groupId, Long userId);
 
+    // 참여 신청용 조회 - 커밋 시점에 버전을 다시 확인 (그 사이 승인/수정/취소되면 OptimisticLockException)
+    @Lock(LockModeType.OPTIMISTIC)
+    Optional<SplitGroup> findWithLockById(Long groupId);
+
+    /**
+     * 정원 슬롯 확보 (원자적 조건부 UPDATE)
+     * - 모집 중 + 정원 미달일 때만 1 증가, 정원에 도달하면 같은 문장에서 FULL 전환
+     * - 행 잠금 안에서 조건을 평가하므로 동시 승인에도 maxParticipants 를 넘지 않음 (0 반환 = 마감)
+     * - 엔티티를 거치지 않으므로 version/updatedAt 직접 증가 (읽어 둔 엔티티로 덮어쓰지 못하도록)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE SplitGroup g
+        SET g.currentParticipants = g.currentParticipants + 1,
+            g.status = CASE WHEN g.currentParticipants + 1 >= g.maxParticipants
+                            THEN com.nearsplit.domain.split_group.entity.SplitGroupStatus.FULL
+                            ELSE g.status END,
+            g.version = g.version + 1,
+            g.updatedAt = :now
+        WHERE g.id = :groupId
+          AND g.status = com.nearsplit.domain.split_group.entity.SplitGroupStatus.RECRUITING
+          AND g.currentParticipants < g.maxParticipants
+        """)
+    int claimParticipantSlot(@Param("groupId") Long groupId, @Param("now") LocalDateTime now);
+
+    @Query("SELECT g.status FROM SplitGroup g WHERE g.id = :groupId")
+    Optional<SplitGroupStatus> findStatusById(@Param("groupId") Long groupId);
+
+    // ========================================
+    // 마감일 지난 모집 중 그룹 자동 마감 (SplitGroupDeadlineJob)
+    // - (closed_at, id) 부분 인덱스 (V11, status = 'RECRUITING') 범위 스캔
+    // ========================================
+
+    // 마감 대상 묶음 (그룹 ID + 방장 ID, 엔티티 로딩 없이)
+    @Query("""
+        SELECT new com.nearsplit.domain.split_group.dto.GroupMember(g.id, g.hostUserId)
+        FROM SplitGroup g
+        WHERE g.status = com.nearsplit.domain.split_group.entity.SplitGroupStatus.RECRUITING
+          AND g.closedAt < :today
+        ORDER BY g.closedAt, g.id
+        """)
+    List<GroupMember> findExpiredRecruiting(@Param("today") LocalDate today, Pageable pageable);
+
+    /**
+     * 묶음 단위 마감 (UPDATE 1번)
+     * - 조회 이후 정원이 차서 FULL 이 된 그룹은 조건에서 빠짐
+     * - 엔티티를 거치지 않으므로 version/updatedAt 직접 증가 (상세 ETag 변경)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE SplitGroup g
+        SET g.status = com.nearsplit.domain.split_group.entity.SplitGroupStatus.CLOSED,
+            g.version = g.version + 1,
+            g.updatedAt = :now
+        WHERE g.id IN :groupIds
+          AND g.status = com.nearsplit.domain.split_group.entity.SplitGroupStatus.RECRUITING
+          AND g.closedAt < :today
+        """)
+    int closeExpired(@Param("groupIds") Collection<Long> groupIds,
+                     @Param("today") LocalDate today,
+                     @Param("now") LocalDateTime now);
+
+    @Query("SELECT g.id FROM SplitGroup g WHERE g.id IN :groupIds AND g.status = :status")
+    List<Long> findIdsByIdInAndStatus(@Param("groupIds") Collection<Long> groupIds,
+                                      @Param("status") SplitGroupStatus status);
+
+    // 그룹 멤버십 캐시 적재용 (방장 ID 만)
+    @Query("SELECT g.hostUserId FROM SplitGroup g WHERE g.id = :groupId")
+    Optional<Long> findHostUserIdById(@Param("groupId") Long groupId);
+
+    // 그룹 상세 조건부 GET 용 버전 (엔티티 로딩 없이 집계 1회)
+    // - 방장/참여자 users.updated_at 포함 → 닉네임 변경 시 ETag 변경
+    @Query("""
+        SELECT new com.nearsplit.domain.split_group.dto.GroupDetailVersion(
+            g.version, COUNT(p.id), MAX(p.updatedAt), MAX(h.updatedAt), MAX(pu.updatedAt))
+        FROM SplitGroup g
+        LEFT JOIN User h ON h.id = g.hostUserId
+        LEFT JOIN g.participants p
+        LEFT JOIN User pu ON pu.id = p.userId
+        WHERE g.id = :groupId
+        GROUP BY g.id, g.version
+        """)
+    Optional<GroupDetailVersion> findDetailVersion(@Param("groupId") Long groupId);
+
+    // location_geog: location 에서 파생된 geography 저장 컬럼 (V2 마이그레이션, GiST 부분 인덱스)
     @Query(value = """
         SELECT * FROM split_group
         WHERE status = 'RECRUITING'
-        AND location IS NOT NULL
-        AND ST_DWithin(location::geography, ST_SetSRID(ST_MakePoint(:lon, :lat), 4326)::geography, 4000)
+        AND location_geog IS NOT NULL
+        AND ST_DWithin(location_geog, ST_SetSRID(ST_MakePoint(:lon, :lat), 4326)::geography, 4000)
         ORDER BY created_at DESC
         """, nativeQuery = true)
     List<SplitGroup> findNearByGroup(@Param("lat") double lat, @Param("lon") double lon);
 
+    // ========================================
+    // 주변 그룹 검색 (반경 지정 + 커서 페이징)
+    // - OFFSET 없이 마지막 항목의 정렬 키 다음부터 LIMIT 만큼만 조회
+    // - 첫 페이지는 NearbyGroupCursor.first() 의 경계값으로 조회
+    // ========================================
+
+    // 가까운 순: (distance, id) 오름차순
+    @Query(value = """
+        SELECT * FROM (
+            SELECT g.id AS id, g.title AS title, g.total_price AS totalPrice,
+                   g.max_participants AS maxParticipants, g.current_participants AS currentParticipants,
+                   g.pickup_location AS pickupLocation,
+                   ST_Y(g.location) AS latitude, ST_X(g.location) AS longitude,
+                   g.status AS status, g.host_user_id AS hostUserId,
+                   g.closed_at AS closedAt, g.created_at AS createdAt,
+                   ST_Distance(g.location_geog, ST_SetSRID(ST_MakePoint(:lon, :lat), 4326)::geography) AS distance
+            FROM split_group g
+            WHERE g.status = 'RECRUITING'
+            AND g.location_geog IS NOT NULL
+            AND ST_DWithin(g.location_geog, ST_SetSRID(ST_MakePoint(:lon, :lat), 4326)::geography, :radius)
+        ) nearby
+        WHERE (nearby.distance, nearby.id) > (:cursorDistance, :cursorId)
+        ORDER BY nearby.distance ASC, nearby.id ASC
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<NearbyGroupProjection> findNearbyOrderByDistance(@Param("lat") double lat, @Param("lon") double lon,
+                                                          @Param("radius") double radius,
+                                                          @Param("cursorDistance") double cursorDistance,
+                                                          @Param("cursorId") long cursorId,
+                                                          @Param("limit") int limit);
+
+    // 최신순: (created_at, id) 내림차순
+    @Query(value = """
+        SELECT g.id AS id, g.title AS title, g.total_price AS totalPrice,
+               g.max_participants AS maxParticipants, g.current_participants AS currentParticipants,
+               g.pickup_location AS pickupLocation,
+               ST_Y(g.location) AS latitude, ST_X(g.location) AS longitude,
+               g.status AS status, g.host_user_id AS hostUserId,
+               g.closed_at AS closedAt, g.created_at AS createdAt,
+               ST_Distance(g.location_geog, ST_SetSRID(ST_MakePoint(:lon, :lat), 4326)::geography) AS distance
+        FROM split_group g
+        WHERE g.status = 'RECRUITING'
+        AND g.location_geog IS NOT NULL
+        AND ST_DWithin(g.location_geog, ST_SetSRID(ST_MakePoint(:lon, :lat), 4326)::geography, :radius)
+        AND (g.created_at, g.id) < (:cursorCreatedAt, :cursorId)
+        ORDER BY g.created_at DESC, g.id DESC
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<NearbyGroupProjection> findNearbyOrderByRecent(@Param("lat") double lat, @Param("lon") double lon,
+                                                        @Param("radius") double radius,
+                                                        @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                        @Param("cursorId") long cursorId,
+                                                        @Param("limit") int limit);
+
 }
@@ -1,7 +1,6 @@
 package com.nearsplit.domain.split_group.repository;
 
-import com.nearsplit.domain.split_group.entity.SplitGroup;
-import com.querydsl.core.Tuple;
+import com.nearsplit.domain.split_group.dto.GroupDetail;
 
 import java.util.Optional;
 
@@ -15,10 +14,12 @@ import java.util.Optional;
  * DATE                   AUTHOR          NOTE
  * ---------------------------------------------------
  * 2026-01-29(목)                user            최초 생성
+ * 2026-10-17(토)                user            그룹 상세 DTO 프로젝션 조회로 변경
  */
 
 public interface SplitGroupRepositoryCustom {
-    Optional<Tuple> findSplitGroupWithNickname(Long groupId);
+    // 그룹 상세 (그룹 + 방장 닉네임 + 참여자/닉네임) - 엔티티 로딩 없이 쿼리 1회
+    Optional<GroupDetail> findGroupDetail(Long groupId);
 }
 
 /*
@@ -30,4 +31,4 @@ JOIN
      PARTICIPANT B ON A.ID = B.SPLIT_GROUP_ID
 JOIN
      USER C ON B.USER_ID = C.ID
- */
\ No newline at end of file
+ */
@@ -1,14 +1,23 @@
 package com.nearsplit.domain.split_group.repository;
 
-import com.nearsplit.domain.split_group.entity.SplitGroup;
+import com.nearsplit.domain.split_group.dto.GroupDetail;
+import com.nearsplit.domain.split_group.dto.GroupDetailVersion;
+import com.nearsplit.domain.split_group.dto.ParticipantResponse;
+import com.nearsplit.domain.split_group.dto.SplitGroupResponse;
+import com.nearsplit.domain.user.entity.QUser;
 import com.querydsl.core.Tuple;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.locationtech.jts.geom.Point;
 
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
+import static com.nearsplit.domain.split_group.entity.QParticipant.participant;
 import static com.nearsplit.domain.split_group.entity.QSplitGroup.splitGroup;
-import static com.nearsplit.domain.user.entity.QUser.user;
 
 /**
  * packageName  : com.nearsplit.domain.split_group.repository
@@ -20,21 +29,96 @@ import static com.nearsplit.domain.user.entity.QUser.user;
  * DATE                   AUTHOR          NOTE
  * ---------------------------------------------------
  * 2026-01-29(목)                user            최초 생성
+ * 2026-10-17(토)                user            그룹 상세 DTO 프로젝션 조회로 변경
+ * 2026-10-17(토)                user            상세 버전에 방장/참여자 프로필 수정 시각 포함
  */
 
 @RequiredArgsConstructor
 public class SplitGroupRepositoryImpl implements SplitGroupRepositoryCustom{
     private final JPAQueryFactory queryFactory;
 
+    private static final QUser hostUser = new QUser("hostUser");
+    private static final QUser participantUser = new QUser("participantUser");
+
+    /**
+     * 그룹 상세 조회
+     * - 그룹 1행 x 참여자 N행 (참여자가 없으면 participant 컬럼이 null 인 1행)
+     * - 필요한 컬럼만 조회 → 영속성 컨텍스트에 엔티티를 올리지 않음 (participants 지연 로딩/닉네임 추가 조회 없음)
+     * - 응답을 만든 시점의 버전도 함께 반환 (조건부 GET ETag)
+     */
     @Override
-    public Optional<Tuple> findSplitGroupWithNickname(Long groupId) {
-        Tuple result = queryFactory
-                .select(splitGroup, user.nickname)
+    public Optional<GroupDetail> findGroupDetail(Long groupId) {
+        List<Tuple> rows = queryFactory
+                .select(splitGroup.id, splitGroup.title, splitGroup.totalPrice, splitGroup.maxParticipants,
+                        splitGroup.pickupLocation, splitGroup.location, splitGroup.status, splitGroup.hostUserId,
+                        splitGroup.currentParticipants, splitGroup.closedAt, splitGroup.createdAt, splitGroup.version,
+                        hostUser.nickname, hostUser.updatedAt,
+                        participant.id, participant.userId, participant.quantity, participant.shareAmount,
+                        participant.status, participant.joinedAt, participant.updatedAt,
+                        participantUser.nickname, participantUser.updatedAt)
                 .from(splitGroup)
-                .leftJoin(user).on(splitGroup.hostUserId.eq(user.id))
+                .leftJoin(hostUser).on(hostUser.id.eq(splitGroup.hostUserId))
+                .leftJoin(participant).on(participant.splitGroup.id.eq(splitGroup.id))
+                .leftJoin(participantUser).on(participantUser.id.eq(participant.userId))
                 .where(splitGroup.id.eq(groupId))
-                .fetchFirst();
-        return Optional.ofNullable(result);
+                .orderBy(participant.id.asc())
+                .fetch();
+
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Tuple first = rows.get(0);
+        Point loc = first.get(splitGroup.location);
+        LocalDateTime createdAt = first.get(splitGroup.createdAt);
+
+        List<Tuple> participantRows = rows.stream()
+                .filter(row -> row.get(participant.id) != null)
+                .toList();
+
+        // findDetailVersion 과 같은 기준으로 버전 계산 (ETag 비교용)
+        GroupDetailVersion version = new GroupDetailVersion(first.get(splitGroup.version),
+                (long) participantRows.size(),
+                participantRows.stream()
+                        .map(row -> row.get(participant.updatedAt))
+                        .filter(Objects::nonNull)
+                        .max(Comparator.naturalOrder())
+                        .orElse(null),
+                GroupDetailVersion.latest(first.get(hostUser.updatedAt),
+                        participantRows.stream()
+                                .map(row -> row.get(participantUser.updatedAt))
+                                .filter(Objects::nonNull)
+                                .max(Comparator.naturalOrder())
+                                .orElse(null)));
+
+        List<ParticipantResponse> participants = participantRows.stream()
+                .map(row -> ParticipantResponse.builder()
+                        .id(row.get(participant.id))
+                        .splitGroupId(groupId)
+                        .userId(row.get(participant.userId))
+                        .userNickname(row.get(participantUser.nickname))
+                        .quantity(row.get(participant.quantity))
+                        .shareAmount(row.get(participant.shareAmount))
+                        .status(row.get(participant.status))
+                        .joinedAt(row.get(participant.joinedAt))
+                        .build())
+                .toList();
 
+        return Optional.of(new GroupDetail(version, SplitGroupResponse.builder()
+                .id(first.get(splitGroup.id))
+                .title(first.get(splitGroup.title))
+                .totalPrice(first.get(splitGroup.totalPrice))
+                .maxParticipants(first.get(splitGroup.maxParticipants))
+                .pickupLocation(first.get(splitGroup.pickupLocation))
+                .latitude(loc != null ? loc.getY() : null)
+                .longitude(loc != null ? loc.getX() : null)
+                .groupState(first.get(splitGroup.status))
+                .hostUserId(first.get(splitGroup.hostUserId))
+                .hostNickname(first.get(hostUser.nickname))
+                .currentParticipants(first.get(splitGroup.currentParticipants))
+                .closedAt(first.get(splitGroup.closedAt))
+                .createdAt(createdAt != null ? createdAt.toLocalDate() : null)
+                .participants(participants)
+                .build()));
     }
 }
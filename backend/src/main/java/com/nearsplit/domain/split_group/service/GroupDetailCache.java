@@ -0,0 +1,68 @@
+package com.nearsplit.domain.split_group.service;
+
+import com.nearsplit.common.cache.LocalCache;
+import com.nearsplit.common.exception.BusinessException;
+import com.nearsplit.common.exception.ErrorCode;
+import com.nearsplit.domain.split_group.dto.GroupDetail;
+import com.nearsplit.domain.split_group.dto.GroupDetailVersion;
+import com.nearsplit.domain.split_group.repository.SplitGroupRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * packageName  : com.nearsplit.domain.split_group.service
+ * fileName     : GroupDetailCache
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 그룹 상세(GroupDetail = 응답 + 버전) 캐시 - 그룹 상세 화면 조회용
+ *                  - 그룹 수정/취소, 참여 신청/취소/승인/거절, 결제 상태 변경 시 커밋 이후 invalidate
+ *                  - 현재 버전을 알고 있으면 버전이 다른 항목은 다시 읽음 (다른 인스턴스의 변경)
+ *                  - 닉네임 변경은 버전(방장/참여자 프로필 수정 시각)이 바뀌므로 조건부 GET 에서 다시 읽음
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ * 2026-10-17(토)                user            설명 수정 (캐시 대상 GroupDetail, 닉네임 변경은 버전으로 반영)
+ */
+@Component
+public class GroupDetailCache {
+    private final SplitGroupRepository splitGroupRepository;
+    private final LocalCache<Long, GroupDetail> cache;
+
+    public GroupDetailCache(SplitGroupRepository splitGroupRepository,
+                            @Value("${split-group.detail-cache.max-size:5000}") int maxSize,
+                            @Value("${split-group.detail-cache.ttl-seconds:30}") long ttlSeconds) {
+        this.splitGroupRepository = splitGroupRepository;
+        this.cache = new LocalCache<>(maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    // 캐시된 응답 객체는 여러 요청이 공유하므로 호출 측에서 수정하지 않을 것
+    public GroupDetail getDetail(Long groupId) {
+        return cache.get(groupId, this::load);
+    }
+
+    /**
+     * 현재 버전 기준 조회
+     * - 캐시 항목의 버전이 다르면 DB 에서 다시 읽어서 교체 (오래된 본문에 새 ETag 가 붙지 않도록)
+     */
+    public GroupDetail getDetail(Long groupId, GroupDetailVersion currentVersion) {
+        GroupDetail cached = getDetail(groupId);
+        if (cached.version().equals(currentVersion)) {
+            return cached;
+        }
+        GroupDetail reloaded = load(groupId);
+        cache.put(groupId, reloaded);
+        return reloaded;
+    }
+
+    public void invalidate(Long groupId) {
+        cache.invalidate(groupId);
+    }
+
+    private GroupDetail load(Long groupId) {
+        return splitGroupRepository.findGroupDetail(groupId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.GROUP_NOT_FOUND));
+    }
+}
@@ -0,0 +1,82 @@
+package com.nearsplit.domain.split_group.service;
+
+import com.nearsplit.common.cache.LocalCache;
+import com.nearsplit.domain.split_group.repository.ParticipantRepository;
+import com.nearsplit.domain.split_group.repository.SplitGroupRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * packageName  : com.nearsplit.domain.split_group.service
+ * fileName     : GroupMembershipCache
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 그룹별 멤버(방장 + 참여자 ID) 캐시 - 채팅 전송/조회 권한 확인용
+ *                  - 참여 신청/취소/거절 시 SplitGroupService 에서 커밋 이후 invalidate
+ *                  - 다른 인스턴스의 변경은 TTL 만료로 반영 (멤버가 아니라고 판단될 때는 DB 재확인)
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+@Component
+public class GroupMembershipCache {
+    private final SplitGroupRepository splitGroupRepository;
+    private final ParticipantRepository participantRepository;
+    private final LocalCache<Long, GroupMembers> cache;
+
+    /**
+     * @param hostUserId 없는 그룹이면 null
+     * @param memberIds  방장 + 참여자 (참여 상태 무관)
+     */
+    public record GroupMembers(Long hostUserId, Set<Long> memberIds) {
+        public boolean contains(Long userId) {
+            return memberIds.contains(userId);
+        }
+    }
+
+    public GroupMembershipCache(SplitGroupRepository splitGroupRepository,
+                                ParticipantRepository participantRepository,
+                                @Value("${split-group.membership-cache.max-size:10000}") int maxSize,
+                                @Value("${split-group.membership-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.splitGroupRepository = splitGroupRepository;
+        this.participantRepository = participantRepository;
+        this.cache = new LocalCache<>(maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    public GroupMembers getMembers(Long groupId) {
+        return cache.get(groupId, this::load);
+    }
+
+    /**
+     * 멤버 여부
+     * - 캐시에 없으면 한 번 다시 읽어서 확인 (다른 인스턴스에서 막 참여한 경우 거부하지 않도록)
+     */
+    public boolean isMember(Long groupId, Long userId) {
+        if (getMembers(groupId).contains(userId)) {
+            return true;
+        }
+        GroupMembers reloaded = load(groupId);
+        cache.put(groupId, reloaded);
+        return reloaded.contains(userId);
+    }
+
+    public void invalidate(Long groupId) {
+        cache.invalidate(groupId);
+    }
+
+    private GroupMembers load(Long groupId) {
+        Long hostUserId = splitGroupRepository.findHostUserIdById(groupId).orElse(null);
+        if (hostUserId == null) {
+            return new GroupMembers(null, Set.of());
+        }
+        Set<Long> memberIds = new LinkedHashSet<>();
+        memberIds.add(hostUserId);
+        memberIds.addAll(participantRepository.findUserIdsBySplitGroupId(groupId));
+        return new GroupMembers(hostUserId, Set.copyOf(memberIds));
+    }
+}
@@ -0,0 +1,216 @@
+package com.nearsplit.domain.split_group.service;
+
+import com.nearsplit.domain.split_group.entity.SplitGroup;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Point;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * packageName  : com.nearsplit.domain.split_group.service
+ * fileName     : NearbyGroupIndex
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 모집 중(RECRUITING)인 그룹의 메모리 공간 인덱스 (위경도 격자)
+ *                  - 위도/경도를 CELL_SIZE_DEGREES 단위 격자로 나누고 셀 ID → 그룹 ID 목록 보관
+ *                  - 반경 조회 시 바운딩 박스에 걸치는 셀만 훑고 하버사인 거리로 최종 필터
+ *                  - 서버 기동 직후(cold)에는 isWarm() == false → 서비스에서 PostGIS 쿼리로 대체
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+@Component
+@Slf4j
+public class NearbyGroupIndex {
+
+    private static final double CELL_SIZE_DEGREES = 0.02;          // 위도 기준 약 2.2km
+    private static final double METERS_PER_DEGREE = 111_320.0;     // 위도 1도 당 거리(m)
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+    private volatile Map<Long, Entry> entries = new ConcurrentHashMap<>();       // groupId → 좌표 정보
+    private volatile Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();     // cellId → groupId 목록
+    private volatile boolean warm = false;
+
+    // 재구성(rebuild) 중 들어온 변경 사항 → 교체 후 다시 적용 (DB 스냅샷 이후 변경 유실 방지)
+    private final List<Runnable> pendingChanges = new ArrayList<>();
+    private boolean rebuilding = false;
+
+    public record Entry(Long groupId, double latitude, double longitude, LocalDateTime createdAt, long cellId) {
+    }
+
+    public boolean isWarm() {
+        return warm;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // ========================================
+    // 변경 반영 (서비스에서 커밋 이후 호출)
+    // ========================================
+
+    /**
+     * 그룹 추가/갱신
+     * - 모집 중이 아니거나 좌표가 없으면 인덱스에서 제거
+     */
+    public synchronized void upsert(SplitGroup group) {
+        Point location = group.getLocation();
+        if (!group.isRecruiting() || location == null) {
+            remove(group.getId());
+            return;
+        }
+        Entry entry = new Entry(group.getId(), location.getY(), location.getX(), group.getCreatedAt(),
+                cellId(location.getY(), location.getX()));
+        if (rebuilding) {
+            pendingChanges.add(() -> put(entry));
+        }
+        put(entry);
+    }
+
+    public synchronized void remove(Long groupId) {
+        if (rebuilding) {
+            pendingChanges.add(() -> delete(groupId));
+        }
+        delete(groupId);
+    }
+
+    // ========================================
+    // 전체 재구성 (기동 시 워밍업 + 주기적 동기화)
+    // ========================================
+
+    public synchronized void beginRebuild() {
+        rebuilding = true;
+        pendingChanges.clear();
+    }
+
+    /**
+     * beginRebuild() 이후 DB에서 읽은 스냅샷으로 인덱스 교체
+     * - 스냅샷을 읽는 동안 반영된 변경은 교체 후 다시 적용
+     */
+    public synchronized void completeRebuild(Collection<SplitGroup> recruitingGroups) {
+        Map<Long, Entry> newEntries = new ConcurrentHashMap<>();
+        Map<Long, Set<Long>> newCells = new ConcurrentHashMap<>();
+        for (SplitGroup group : recruitingGroups) {
+            Point location = group.getLocation();
+            if (!group.isRecruiting() || location == null) {
+                continue;
+            }
+            long cellId = cellId(location.getY(), location.getX());
+            newEntries.put(group.getId(), new Entry(group.getId(), location.getY(), location.getX(),
+                    group.getCreatedAt(), cellId));
+            newCells.computeIfAbsent(cellId, k -> ConcurrentHashMap.newKeySet()).add(group.getId());
+        }
+        this.entries = newEntries;
+        this.cells = newCells;
+
+        pendingChanges.forEach(Runnable::run);
+        pendingChanges.clear();
+        rebuilding = false;
+        warm = true;
+        log.info("주변 그룹 인덱스 재구성 완료: groups={}, cells={}", newEntries.size(), newCells.size());
+    }
+
+    public synchronized void abortRebuild() {
+        pendingChanges.clear();
+        rebuilding = false;
+    }
+
+    // ========================================
+    // 반경 조회
+    // ========================================
+
+    /**
+     * 기준 좌표에서 반경(m) 안에 있는 그룹 ID 목록 (최신 생성순)
+     */
+    public List<Long> findNearby(double latitude, double longitude, double radiusMeters) {
+        Map<Long, Entry> currentEntries = this.entries;
+        Map<Long, Set<Long>> currentCells = this.cells;
+
+        double latDelta = radiusMeters / METERS_PER_DEGREE;
+        double lonDelta = radiusMeters / (METERS_PER_DEGREE * Math.max(Math.cos(Math.toRadians(latitude)), 0.01));
+
+        long minLat = cellIndex(latitude - latDelta);
+        long maxLat = cellIndex(latitude + latDelta);
+        long minLon = cellIndex(longitude - lonDelta);
+        long maxLon = cellIndex(longitude + lonDelta);
+
+        List<Entry> matched = new ArrayList<>();
+        for (long latIdx = minLat; latIdx <= maxLat; latIdx++) {
+            for (long lonIdx = minLon; lonIdx <= maxLon; lonIdx++) {
+                Set<Long> groupIds = currentCells.get(cellId(latIdx, lonIdx));
+                if (groupIds == null) {
+                    continue;
+                }
+                for (Long groupId : groupIds) {
+                    Entry entry = currentEntries.get(groupId);
+                    if (entry != null
+                            && distanceMeters(latitude, longitude, entry.latitude(), entry.longitude()) <= radiusMeters) {
+                        matched.add(entry);
+                    }
+                }
+            }
+        }
+
+        // 기존 PostGIS 쿼리와 동일하게 created_at DESC 정렬
+        matched.sort(Comparator.comparing(Entry::createdAt, Comparator.nullsLast(Comparator.reverseOrder())));
+        return matched.stream().map(Entry::groupId).toList();
+    }
+
+    /**
+     * 두 좌표 사이 거리(m) - 하버사인 공식
+     */
+    public static double distanceMeters(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    // ========================================
+    // 내부 메서드
+    // ========================================
+
+    private void put(Entry entry) {
+        delete(entry.groupId());
+        entries.put(entry.groupId(), entry);
+        cells.computeIfAbsent(entry.cellId(), k -> ConcurrentHashMap.newKeySet()).add(entry.groupId());
+    }
+
+    private void delete(Long groupId) {
+        Entry old = entries.remove(groupId);
+        if (old == null) {
+            return;
+        }
+        Set<Long> groupIds = cells.get(old.cellId());
+        if (groupIds != null) {
+            groupIds.remove(groupId);
+            if (groupIds.isEmpty()) {
+                cells.remove(old.cellId());
+            }
+        }
+    }
+
+    private static long cellIndex(double degrees) {
+        return (long) Math.floor(degrees / CELL_SIZE_DEGREES);
+    }
+
+    private static long cellId(double latitude, double longitude) {
+        return cellId(cellIndex(latitude), cellIndex(longitude));
+    }
+
+    private static long cellId(long latIdx, long lonIdx) {
+        return (latIdx << 32) | (lonIdx & 0xffffffffL);
+    }
+}
@@ -0,0 +1,46 @@
+package com.nearsplit.domain.split_group.service;
+
+import com.nearsplit.domain.split_group.entity.SplitGroup;
+import com.nearsplit.domain.split_group.entity.SplitGroupStatus;
+import com.nearsplit.domain.split_group.repository.SplitGroupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * packageName  : com.nearsplit.domain.split_group.service
+ * fileName     : NearbyGroupIndexLoader
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : NearbyGroupIndex 워밍업 + 주기적 재구성
+ *                  - 기동 직후 1회 로드 (로드 전까지는 PostGIS 쿼리로 대체)
+ *                  - 다른 인스턴스에서 변경된 그룹도 주기적으로 맞춰줌 (인덱스는 인스턴스별 메모리)
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NearbyGroupIndexLoader {
+    private final SplitGroupRepository splitGroupRepository;
+    private final NearbyGroupIndex nearbyGroupIndex;
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${split-group.nearby-index.refresh-ms:300000}")
+    @Transactional(readOnly = true)
+    public void reload() {
+        nearbyGroupIndex.beginRebuild();
+        try {
+            List<SplitGroup> recruitingGroups = splitGroupRepository.findByStatus(SplitGroupStatus.RECRUITING);
+            nearbyGroupIndex.completeRebuild(recruitingGroups);
+        } catch (RuntimeException e) {
+            nearbyGroupIndex.abortRebuild();
+            log.error("주변 그룹 인덱스 재구성 실패 - PostGIS 조회로 대체: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.nearsplit.domain.split_group.service;
+
+import com.nearsplit.common.scheduling.SchedulerLease;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+/**
+ * packageName  : com.nearsplit.domain.split_group.service
+ * fileName     : SplitGroupDeadlineJob
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 마감일(closedAt)이 지난 모집 중 그룹을 CLOSED 로 전환 (주기 실행)
+ *                  - 마감일 당일까지는 모집 중, 다음 날부터 마감 대상
+ *                  - chunk-size 단위로 나눠서 마감, 한 번 실행에 max-chunks 까지만 처리
+ *                  - 여러 인스턴스에서 동시에 돌지 않도록 DB 임대(SchedulerLease) 확보한 인스턴스만 실행
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+@Component
+@Slf4j
+public class SplitGroupDeadlineJob {
+    private static final String LEASE_NAME = "split-group-deadline-closer";
+
+    private final SplitGroupService splitGroupService;
+    private final SchedulerLease schedulerLease;
+    private final int chunkSize;
+    private final int maxChunks;
+    private final Duration leaseTime;
+
+    public SplitGroupDeadlineJob(SplitGroupService splitGroupService,
+                                 SchedulerLease schedulerLease,
+                                 @Value("${split-group.deadline-closer.chunk-size:500}") int chunkSize,
+                                 @Value("${split-group.deadline-closer.max-chunks:100}") int maxChunks,
+                                 @Value("${split-group.deadline-closer.lease-seconds:600}") long leaseSeconds) {
+        this.splitGroupService = splitGroupService;
+        this.schedulerLease = schedulerLease;
+        this.chunkSize = chunkSize;
+        this.maxChunks = maxChunks;
+        this.leaseTime = Duration.ofSeconds(leaseSeconds);
+    }
+
+    @Scheduled(cron = "${split-group.deadline-closer.cron:0 5 0 * * *}")
+    public void closeExpiredGroups() {
+        if (!schedulerLease.tryAcquire(LEASE_NAME, leaseTime)) {
+            return;
+        }
+        LocalDate today = LocalDate.now();
+        int total = 0;
+        try {
+            for (int chunk = 0; chunk < maxChunks; chunk++) {
+                int processed = splitGroupService.closeExpiredGroups(today, chunkSize);
+                total += processed;
+                if (processed < chunkSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            // 이미 마감한 묶음은 커밋된 상태 → 나머지는 다음 실행 때 이어서 처리
+            log.warn("마감일 지난 그룹 마감 중단: processed={}, message={}", total, e.getMessage());
+            return;
+        } finally {
+            schedulerLease.release(LEASE_NAME);
+        }
+        log.info("마감일 지난 그룹 마감: today={}, processed={}", today, total);
+    }
+}
@@ -1,19 +1,26 @@
 package com.nearsplit.domain.split_group.service;
 
+import com.nearsplit.common.dto.CursorResponse;
 import com.nearsplit.common.exception.BusinessException;
 import com.nearsplit.common.exception.ErrorCode;
+import com.nearsplit.common.outbox.OutboxEventRecorder;
+import com.nearsplit.common.outbox.OutboxEventType;
+import com.nearsplit.common.util.TransactionCallbacks;
 import com.nearsplit.domain.notification.entity.NotificationType;
 import com.nearsplit.domain.notification.entity.ReferenceType;
 import com.nearsplit.domain.notification.service.NotificationService;
 import com.nearsplit.domain.split_group.dto.*;
+import com.nearsplit.domain.split_group.entity.MySplitGroup;
 import com.nearsplit.domain.split_group.entity.Participant;
 import com.nearsplit.domain.split_group.entity.ParticipantStatus;
 import com.nearsplit.domain.split_group.entity.SplitGroup;
 import com.nearsplit.domain.split_group.entity.SplitGroupStatus;
+import com.nearsplit.domain.split_group.event.SplitGroupEventPayload;
+import com.nearsplit.domain.split_group.repository.MySplitGroupRepository;
 import com.nearsplit.domain.split_group.repository.ParticipantRepository;
 import com.nearsplit.domain.split_group.repository.SplitGroupRepository;
-import com.nearsplit.domain.user.entity.User;
 import com.nearsplit.domain.user.repository.UserRepository;
+import com.nearsplit.domain.user.service.UserLocationCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.locationtech.jts.geom.Coordinate;
@@ -21,13 +28,22 @@ import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.geom.PrecisionModel;
 import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -37,11 +53,23 @@ import java.util.stream.Collectors;
 public class SplitGroupService {
     private final SplitGroupRepository splitGroupRepository;
     private final ParticipantRepository participantRepository;
+    private final MySplitGroupRepository mySplitGroupRepository;
     private final UserRepository userRepository;
     private final NotificationService notificationService;
+    private final OutboxEventRecorder outboxEventRecorder;
+    private final NearbyGroupIndex nearbyGroupIndex;
+    private final GroupMembershipCache groupMembershipCache;
+    private final GroupDetailCache groupDetailCache;
+    private final UserLocationCache userLocationCache;
 
     // SRID 4326 = WGS84 (GPS 표준 좌표계)
     private static final GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);
+    private static final double NEARBY_RADIUS_METERS = 4000;
+    private static final int NEARBY_MIN_RADIUS_METERS = 100;
+    private static final int NEARBY_MAX_PAGE_SIZE = 50;
+
+    @Value("${split-group.nearby-search.max-radius-meters:20000}")
+    private int nearbyMaxRadiusMeters;
 
     // ========================================
     // 그룹 생성
@@ -62,8 +90,18 @@ public class SplitGroupService {
                 request.getClosedAt()
         );
 
+        // 위도/경도가 있으면 PostGIS Point로 변환 (경도, 위도 순서)
+        if (request.getLatitude() != null && request.getLongitude() != null) {
+            newGroup.updateLocation(geometryFactory.createPoint(
+                    new Coordinate(request.getLongitude(), request.getLatitude())));
+        }
+
         SplitGroup saved = splitGroupRepository.save(newGroup);
+        mySplitGroupRepository.save(MySplitGroup.of(saved, userId));
         log.info("생성된 그룹={}", saved);
+
+        // 커밋 이후 주변 그룹 인덱스 반영
+        TransactionCallbacks.afterCommit(() -> nearbyGroupIndex.upsert(saved));
         return saved;
     }
 
@@ -78,46 +116,74 @@ public class SplitGroupService {
 
     // 모집 중인 전체 그룹 중에서, 사용자 기준 4km 안에 있는 그룹만 조회
     public List<SplitGroup> getNearbyGroups(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        Point userLocation = getUserLocation(userId);
+        double lon = userLocation.getX();
+        double lat = userLocation.getY();
 
-        Point userLocation = user.getLocation();
+        // 인덱스가 아직 로드되지 않았으면(cold) PostGIS 쿼리로 대체
+        if (!nearbyGroupIndex.isWarm()) {
+            return splitGroupRepository.findNearByGroup(lat, lon);
+        }
 
-        if (userLocation == null) {
-            throw new BusinessException(ErrorCode.LOCATION_NOT_REGISTERED);
+        // 인덱스로 반경 내 그룹 ID만 구한 뒤 PK로 조회 (공간 스캔 없음)
+        List<Long> groupIds = nearbyGroupIndex.findNearby(lat, lon, NEARBY_RADIUS_METERS);
+        if (groupIds.isEmpty()) {
+            return List.of();
         }
+        Map<Long, SplitGroup> groupMap = splitGroupRepository.findAllById(groupIds).stream()
+                .collect(Collectors.toMap(SplitGroup::getId, Function.identity()));
+
+        return groupIds.stream()
+                .map(groupMap::get)
+                .filter(Objects::nonNull)
+                .filter(SplitGroup::isRecruiting)
+                .toList();
+    }
+
+    /**
+     * 주변 그룹 검색 (반경/정렬 지정 + 커서 페이징)
+     * - radius: 미지정 시 4km, 100m ~ 최대 반경(설정값) 범위로 보정
+     * - size  : 1 ~ 50 범위로 보정
+     * - size + 1 건을 조회해서 다음 페이지 존재 여부 판단 (COUNT 쿼리 없음)
+     */
+    public CursorResponse<NearbyGroupResponse> searchNearbyGroups(Long userId, Integer radius, int size,
+                                                                  String cursor, NearbySearchSort sort) {
+        Point userLocation = getUserLocation(userId);
         double lon = userLocation.getX();
         double lat = userLocation.getY();
-        return splitGroupRepository.findNearByGroup(lat, lon);
-    }
 
-    public List<Participant> getMySplitGroups(Long userId) {
-        if (!userRepository.existsById(userId)) {
-            throw new IllegalArgumentException("존재하지 않는 회원입니다. 인증 정보를 확인해 주세요.");
-        }
+        double radiusMeters = radius == null ? NEARBY_RADIUS_METERS
+                : Math.min(Math.max(radius, NEARBY_MIN_RADIUS_METERS), nearbyMaxRadiusMeters);
+        int pageSize = Math.min(Math.max(size, 1), NEARBY_MAX_PAGE_SIZE);
+        NearbyGroupCursor current = NearbyGroupCursor.decode(cursor, sort);
 
-        List<Participant> participantGroups = participantRepository.findByUserIdWithGroup(userId);
-        if (participantGroups == null) {
-            throw new IllegalArgumentException("그룹에 참여한 정보가 없습니다.");
-        }
+        List<NearbyGroupProjection> rows = sort == NearbySearchSort.DISTANCE
+                ? splitGroupRepository.findNearbyOrderByDistance(lat, lon, radiusMeters,
+                        current.distance(), current.id(), pageSize + 1)
+                : splitGroupRepository.findNearbyOrderByRecent(lat, lon, radiusMeters,
+                        current.createdAt(), current.id(), pageSize + 1);
 
-        return participantGroups;
-    }
+        boolean hasNext = rows.size() > pageSize;
+        List<NearbyGroupProjection> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? NearbyGroupCursor.after(sort, page.get(page.size() - 1)).encode() : null;
 
-    public SplitGroup getSplitGroup(Long splitGroupId, Long userId) {
-        SplitGroup group = splitGroupRepository.findById(splitGroupId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.GROUP_NOT_FOUND));
+        return CursorResponse.of(page.stream().map(NearbyGroupResponse::from).toList(), nextCursor);
+    }
 
-        // 참여자들 닉네임 조회 후 세팅
-        List<Long> userIds = group.getParticipants().stream().map(Participant::getUserId).toList();
-        userIds = new ArrayList<>(userIds);
-        userIds.add(group.getHostUserId());
+    // 내 그룹 목록 (방장 + 참여) - 조회 모델 인덱스 스캔 1번, 엔티티 로딩 없음
+    public List<SplitGroupSummaryResponse> getMySplitGroups(Long userId) {
+        return mySplitGroupRepository.findSummariesByUserId(userId);
+    }
 
-        Map<Long, String> userMap = userRepository.findAllById(userIds).stream()
-                .collect(Collectors.toMap(User::getId, User::getNickname));
-        group.getParticipants().forEach(p -> p.assignNickname(userMap.get(p.getUserId())));
+    // 그룹 상세 조건부 GET 용 버전 (엔티티 로딩 없이 집계 1회)
+    public GroupDetailVersion getSplitGroupVersion(Long splitGroupId) {
+        return splitGroupRepository.findDetailVersion(splitGroupId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.GROUP_NOT_FOUND));
+    }
 
-        return group;
+    // 그룹 상세 (그룹 + 방장/참여자 닉네임) - DTO 프로젝션 1회 조회 + 캐시
+    public GroupDetail getSplitGroup(Long splitGroupId, GroupDetailVersion currentVersion) {
+        return groupDetailCache.getDetail(splitGroupId, currentVersion);
     }
 
     // ========================================
@@ -145,7 +211,12 @@ public class SplitGroupService {
                 location,
                 request.getClosedAt()
         );
+        mySplitGroupRepository.refreshGroupColumns(List.of(splitGroupId));
 
+        TransactionCallbacks.afterCommit(() -> {
+            nearbyGroupIndex.upsert(target);
+            groupDetailCache.invalidate(splitGroupId);
+        });
         return target;
     }
 
@@ -160,15 +231,26 @@ public class SplitGroupService {
         // 도메인 메서드로 취소 (상태 + 참여자 검증 포함)
         target.cancel();
         splitGroupRepository.save(target);
+        mySplitGroupRepository.refreshGroupColumns(List.of(splitGroupId));
+
+        TransactionCallbacks.afterCommit(() -> {
+            nearbyGroupIndex.remove(target.getId());
+            groupDetailCache.invalidate(splitGroupId);
+        });
         return target;
     }
 
     // ========================================
     // 참여 신청
     // ========================================
+    /**
+     * 참여 신청
+     * - 그룹은 OPTIMISTIC 락으로 읽음 → 신청 도중 승인/수정/취소되면 커밋 시 충돌 (호출 측 OptimisticLockRetrier 가 재검증)
+     * - 동시 중복 신청(더블 클릭)은 (split_group_id, user_id) 유니크 제약으로 1건만 저장
+     */
     @Transactional
     public Participant joinSplitGroup(Long splitGroupId, Long userId) {
-        SplitGroup findGroup = splitGroupRepository.findById(splitGroupId)
+        SplitGroup findGroup = splitGroupRepository.findWithLockById(splitGroupId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.GROUP_NOT_FOUND, "존재하지 않는 그룹입니다."));
 
         if (participantRepository.existsBySplitGroupIdAndUserId(splitGroupId, userId)) {
@@ -184,11 +266,22 @@ public class SplitGroupService {
                 .userId(userId)
                 .build();
 
-        // 알림 발송 (인프라 관심사 → 서비스 책임)
-        notificationService.createNotification(findGroup.getHostUserId(), NotificationType.JOIN_REQUEST,
-                "그룹 참여 요청", "그룹 참여 요청이 왔습니다.", findGroup.getId(), ReferenceType.SPLIT_GROUP);
+        // 참여 신청 이벤트 기록 (같은 트랜잭션) → 방장 알림은 이벤트 수신 측에서 처리
+        outboxEventRecorder.record(OutboxEventType.SPLIT_GROUP_JOIN_REQUESTED, findGroup.getId(),
+                SplitGroupEventPayload.of(findGroup.getId(), findGroup.getHostUserId(), userId));
 
-        return participantRepository.save(joiner);
+        // exists 확인과 저장 사이에 들어온 같은 사용자의 신청은 유니크 제약 위반으로 걸러짐 (즉시 flush 해서 여기서 변환)
+        Participant saved;
+        try {
+            saved = participantRepository.saveAndFlush(joiner);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException("이미 참여 신청한 그룹입니다.");
+        }
+        if (!userId.equals(findGroup.getHostUserId())) {     // 방장은 생성 시 만든 행으로 충분
+            mySplitGroupRepository.save(MySplitGroup.of(findGroup, userId));
+        }
+        TransactionCallbacks.afterCommit(() -> invalidateGroupCaches(splitGroupId));
+        return saved;
     }
 
     // ========================================
@@ -203,6 +296,8 @@ public class SplitGroupService {
         participant.validateCancellable();
 
         participantRepository.delete(participant);
+        mySplitGroupRepository.deleteBySplitGroupIdAndUserIdIn(groupId, List.of(userId));
+        TransactionCallbacks.afterCommit(() -> invalidateGroupCaches(groupId));
 
         // 알림 삭제 (인프라 관심사 → 서비스 책임)
         notificationService.deletedNotification(participant.getSplitGroup().getHostUserId(),
@@ -214,6 +309,13 @@ public class SplitGroupService {
     // ========================================
     // 참여자 승인
     // ========================================
+    /**
+     * 참여자 승인
+     * - 엔티티 필드 증가(currentParticipants++) 대신 조건부 UPDATE 2번으로 처리 → 동시 승인에도 정원 초과 없음
+     *   1) 참여자 PENDING → APPROVED : 같은 신청 중복 승인 방지
+     *   2) 정원 슬롯 확보 (+1, 정원 도달 시 FULL) : 실패하면 예외 → 1) 도 롤백
+     * - 두 UPDATE 모두 영속성 컨텍스트를 비우므로 이후 값은 다시 조회해서 사용
+     */
     @Transactional
     public Participant approveParticipant(Long splitGroupId, Long hostId, ParticipantActionRequest actionRequest) {
         SplitGroup findGroup = splitGroupRepository.findById(splitGroupId)
@@ -221,26 +323,40 @@ public class SplitGroupService {
 
         // 도메인 메서드로 방장 검증
         findGroup.validateHost(hostId);
+        Long hostUserId = findGroup.getHostUserId();
 
         Participant participant = participantRepository.findBySplitGroupIdAndUserId(splitGroupId, actionRequest.getParticipantUserId())
                 .orElseThrow(() -> new IllegalArgumentException("참여 신청 내역이 없습니다."));
 
-        // 도메인 메서드로 승인 처리 (분담금 계산 + 인원 증가 + FULL 전환)
-        boolean becameFull = findGroup.approveParticipant(participant);
-
-        // 알림 발송 (인프라 관심사 → 서비스 책임)
-        notificationService.createNotification(participant.getUserId(), NotificationType.APPROVED,
-                "그룹 참여 승인", "참여 신청이 승인 됐습니다.", splitGroupId, ReferenceType.SPLIT_GROUP);
-
-        // 정원 도달 시 전체 참여자에게 모집 완료 알림
+        LocalDateTime now = LocalDateTime.now();
+        if (participantRepository.approveIfPending(participant.getId(), findGroup.calculateShareAmount(), now) == 0) {
+            throw new IllegalArgumentException("이미 승인된 참여자입니다.");
+        }
+        if (splitGroupRepository.claimParticipantSlot(splitGroupId, now) == 0) {
+            throw new IllegalArgumentException("정원이 마감되었습니다.");
+        }
+        boolean becameFull = splitGroupRepository.findStatusById(splitGroupId)
+                .map(status -> status == SplitGroupStatus.FULL)
+                .orElse(false);
+        Participant approved = participantRepository.findById(participant.getId()).orElseThrow();
+        mySplitGroupRepository.refreshGroupColumns(List.of(splitGroupId));
+        TransactionCallbacks.afterCommit(() -> groupDetailCache.invalidate(splitGroupId));
+
+        // 승인 이벤트 기록 (같은 트랜잭션) → 신청자 알림은 이벤트 수신 측에서 처리
+        outboxEventRecorder.record(OutboxEventType.SPLIT_GROUP_PARTICIPANT_APPROVED, splitGroupId,
+                SplitGroupEventPayload.of(splitGroupId, hostUserId, approved.getUserId()));
+
+        // 정원 도달 시 전체 참여자에게 모집 완료 알림 (이벤트 1건 → 수신 측에서 일괄 발송)
+        // FULL 전환은 정원을 채운 UPDATE 1건에서만 일어나므로 알림도 1번만 기록됨
         if (becameFull) {
-            for (Participant findParticipant : findGroup.getParticipants()) {
-                notificationService.createNotification(findParticipant.getUserId(), NotificationType.GROUP_FULL,
-                        "모집 완료", "모집이 완료 됐습니다.", splitGroupId, ReferenceType.SPLIT_GROUP);
-            }
+            TransactionCallbacks.afterCommit(() -> nearbyGroupIndex.remove(splitGroupId));
+
+            List<Long> participantUserIds = participantRepository.findUserIdsBySplitGroupId(splitGroupId);
+            outboxEventRecorder.record(OutboxEventType.SPLIT_GROUP_FULL, splitGroupId,
+                    new SplitGroupEventPayload(splitGroupId, hostUserId, null, participantUserIds));
         }
 
-        return participant;
+        return approved;
     }
 
     // ========================================
@@ -258,14 +374,187 @@ public class SplitGroupService {
                 .orElseThrow(() -> new IllegalArgumentException("참여 신청 내역이 없습니다."));
 
         participantRepository.delete(participant);
+        mySplitGroupRepository.deleteBySplitGroupIdAndUserIdIn(splitGroupId, List.of(participant.getUserId()));
+        TransactionCallbacks.afterCommit(() -> invalidateGroupCaches(splitGroupId));
 
-        // 알림 발송 (인프라 관심사 → 서비스 책임)
-        notificationService.createNotification(participant.getUserId(), NotificationType.REJECTED,
-                "그룹 참여 거절", "참여 신청이 거절 됐습니다.", splitGroupId, ReferenceType.SPLIT_GROUP);
+        // 거절 이벤트 기록 (같은 트랜잭션) → 신청자 알림은 이벤트 수신 측에서 처리
+        outboxEventRecorder.record(OutboxEventType.SPLIT_GROUP_PARTICIPANT_REJECTED, splitGroupId,
+                SplitGroupEventPayload.of(splitGroupId, findGroup.getHostUserId(), participant.getUserId()));
 
         return participant;
     }
 
+    // ========================================
+    // 참여자 일괄 승인 / 거절
+    // ========================================
+
+    /**
+     * 참여자 일괄 승인
+     * - 대상 신청을 쿼리 1번으로 조회 → 도메인 메서드(approveParticipant)로 메모리에서 처리 → flush 1번
+     * - 요청 순서대로 처리, 대기 중이 아니거나 정원이 찬 뒤의 신청은 건너뜀
+     * - 그룹 @Version 으로 다른 승인(단건 승인의 조건부 UPDATE 포함)과의 충돌 감지 → 호출 측 OptimisticLockRetrier 가 재시도
+     * - 승인 알림은 이벤트 1건으로 기록 (수신 측에서 일괄 발송)
+     */
+    @Transactional
+    public ParticipantBatchActionResponse approveParticipants(Long splitGroupId, Long hostId, ParticipantBatchActionRequest request) {
+        SplitGroup findGroup = splitGroupRepository.findById(splitGroupId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 그룹입니다."));
+
+        // 도메인 메서드로 방장 검증
+        findGroup.validateHost(hostId);
+        if (!findGroup.isRecruiting()) {
+            throw new IllegalArgumentException("모집이 마감된 그룹입니다.");
+        }
+
+        List<Long> requestedUserIds = request.getParticipantUserIds().stream().distinct().toList();
+        Map<Long, Participant> participantMap = participantRepository.findBySplitGroupIdAndUserIdIn(splitGroupId, requestedUserIds)
+                .stream()
+                .collect(Collectors.toMap(Participant::getUserId, Function.identity()));
+
+        List<Long> approvedUserIds = new ArrayList<>();
+        List<Long> skippedUserIds = new ArrayList<>();
+        boolean becameFull = false;
+        for (Long userId : requestedUserIds) {
+            Participant participant = participantMap.get(userId);
+            if (becameFull || participant == null || participant.getStatus() != ParticipantStatus.PENDING) {
+                skippedUserIds.add(userId);
+                continue;
+            }
+            becameFull = findGroup.approveParticipant(participant);
+            approvedUserIds.add(userId);
+        }
+        if (approvedUserIds.isEmpty()) {
+            return new ParticipantBatchActionResponse(approvedUserIds, skippedUserIds);
+        }
+
+        // 그룹 1건 + 참여자 N건 변경을 한 번에 반영 (버전 충돌도 여기서 감지)
+        splitGroupRepository.flush();
+        mySplitGroupRepository.refreshGroupColumns(List.of(splitGroupId));
+        TransactionCallbacks.afterCommit(() -> groupDetailCache.invalidate(splitGroupId));
+
+        outboxEventRecorder.record(OutboxEventType.SPLIT_GROUP_PARTICIPANT_APPROVED, splitGroupId,
+                SplitGroupEventPayload.ofMembers(splitGroupId, findGroup.getHostUserId(), approvedUserIds));
+
+        if (becameFull) {
+            TransactionCallbacks.afterCommit(() -> nearbyGroupIndex.remove(splitGroupId));
+            outboxEventRecorder.record(OutboxEventType.SPLIT_GROUP_FULL, splitGroupId,
+                    new SplitGroupEventPayload(splitGroupId, findGroup.getHostUserId(), null,
+                            participantRepository.findUserIdsBySplitGroupId(splitGroupId)));
+        }
+
+        return new ParticipantBatchActionResponse(approvedUserIds, skippedUserIds);
+    }
+
+    /**
+     * 참여자 일괄 거절
+     * - 대상 신청을 쿼리 1번으로 조회 → 대기 중인 신청만 DELETE 1번
+     * - 조회 이후 다른 요청이 승인해서 삭제 건수가 모자라면 충돌로 보고 재시도 (승인된 사람에게 거절 알림이 가지 않도록)
+     */
+    @Transactional
+    public ParticipantBatchActionResponse rejectParticipants(Long splitGroupId, Long hostId, ParticipantBatchActionRequest request) {
+        SplitGroup findGroup = splitGroupRepository.findById(splitGroupId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 그룹입니다."));
+
+        // 도메인 메서드로 방장 검증
+        findGroup.validateHost(hostId);
+        Long hostUserId = findGroup.getHostUserId();
+
+        List<Long> requestedUserIds = request.getParticipantUserIds().stream().distinct().toList();
+        List<Participant> pending = participantRepository.findBySplitGroupIdAndUserIdIn(splitGroupId, requestedUserIds)
+                .stream()
+                .filter(participant -> participant.getStatus() == ParticipantStatus.PENDING)
+                .toList();
+
+        List<Long> rejectedUserIds = pending.stream().map(Participant::getUserId).toList();
+        List<Long> skippedUserIds = requestedUserIds.stream()
+                .filter(userId -> !rejectedUserIds.contains(userId))
+                .toList();
+        if (pending.isEmpty()) {
+            return new ParticipantBatchActionResponse(rejectedUserIds, skippedUserIds);
+        }
+
+        int deleted = participantRepository.deletePendingByIdIn(pending.stream().map(Participant::getId).toList());
+        if (deleted != pending.size()) {
+            // 조회 후 다른 요청이 먼저 승인/취소한 신청이 있음 → 롤백 후 재시도
+            throw new OptimisticLockingFailureException("거절 대상 참여 신청이 변경되었습니다: splitGroupId=" + splitGroupId
+                    + ", expected=" + pending.size() + ", deleted=" + deleted);
+        }
+        mySplitGroupRepository.deleteBySplitGroupIdAndUserIdIn(splitGroupId, rejectedUserIds);
+        TransactionCallbacks.afterCommit(() -> invalidateGroupCaches(splitGroupId));
+
+        outboxEventRecorder.record(OutboxEventType.SPLIT_GROUP_PARTICIPANT_REJECTED, splitGroupId,
+                SplitGroupEventPayload.ofMembers(splitGroupId, hostUserId, rejectedUserIds));
+
+        return new ParticipantBatchActionResponse(rejectedUserIds, skippedUserIds);
+    }
+
+    // ========================================
+    // 마감일 지난 그룹 자동 마감 (SplitGroupDeadlineJob)
+    // ========================================
+
+    /**
+     * 마감일이 지난 모집 중 그룹 한 묶음 마감
+     * - 대상 조회 1번 + 조건부 UPDATE 1번 + 참여자 조회 1번 (묶음 크기와 관계없이 쿼리 3번)
+     * - 묶음 단위 트랜잭션 → 긴 잠금 없이 조금씩 처리
+     * - 그룹별 마감 이벤트 기록 (수신 측에서 방장 + 참여자 알림 일괄 발송)
+     * @return 조회한 대상 건수 (limit 보다 작으면 더 마감할 그룹이 없음)
+     */
+    @Transactional
+    public int closeExpiredGroups(LocalDate today, int limit) {
+        List<GroupMember> expired = splitGroupRepository.findExpiredRecruiting(today, PageRequest.of(0, limit));
+        if (expired.isEmpty()) {
+            return 0;
+        }
+        List<Long> groupIds = expired.stream().map(GroupMember::groupId).toList();
+
+        int closed = splitGroupRepository.closeExpired(groupIds, today, LocalDateTime.now());
+        // 조회 이후 정원이 차서 FULL 이 된 그룹은 마감되지 않음 → 실제 마감된 그룹만 알림
+        Set<Long> closedIds = closed == groupIds.size()
+                ? new HashSet<>(groupIds)
+                : new HashSet<>(splitGroupRepository.findIdsByIdInAndStatus(groupIds, SplitGroupStatus.CLOSED));
+        if (!closedIds.isEmpty()) {
+            mySplitGroupRepository.refreshGroupColumns(closedIds);
+        }
+
+        Map<Long, List<Long>> participantsByGroup = participantRepository.findMembersBySplitGroupIdIn(closedIds).stream()
+                .collect(Collectors.groupingBy(GroupMember::groupId,
+                        Collectors.mapping(GroupMember::userId, Collectors.toList())));
+        for (GroupMember group : expired) {
+            if (!closedIds.contains(group.groupId())) {
+                continue;
+            }
+            outboxEventRecorder.record(OutboxEventType.SPLIT_GROUP_CLOSED, group.groupId(),
+                    new SplitGroupEventPayload(group.groupId(), group.userId(), null,
+                            participantsByGroup.getOrDefault(group.groupId(), List.of())));
+        }
+
+        TransactionCallbacks.afterCommit(() -> closedIds.forEach(groupId -> {
+            nearbyGroupIndex.remove(groupId);
+            groupDetailCache.invalidate(groupId);
+        }));
+        return expired.size();
+    }
+
+    // ========================================
+    // 내부 메서드
+    // ========================================
+
+    // 참여자 구성이 바뀌면 멤버십/상세 캐시 모두 무효화
+    private void invalidateGroupCaches(Long groupId) {
+        groupMembershipCache.invalidate(groupId);
+        groupDetailCache.invalidate(groupId);
+    }
+
+    // 주변 검색 기준 좌표 (프로필 주소로 등록된 사용자 위치)
+    // - 피드 새로고침마다 User 엔티티를 읽지 않도록 좌표 캐시 사용
+    private Point getUserLocation(Long userId) {
+        Point userLocation = userLocationCache.getLocation(userId);
+        if (userLocation == null) {
+            throw new BusinessException(ErrorCode.LOCATION_NOT_REGISTERED);
+        }
+        return userLocation;
+    }
+
     // ========================================
     // 참여자 수 조회
     // ========================================
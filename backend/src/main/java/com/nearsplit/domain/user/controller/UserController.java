@@ -1,5 +1,6 @@
 package com.nearsplit.domain.user.controller;
 
+import com.nearsplit.common.websocket.WebSocketSessionRegistry;
 import com.nearsplit.domain.user.dto.UserResponse;
 import com.nearsplit.domain.user.dto.UserUpdateRequest;
 import com.nearsplit.domain.user.service.UserService;
@@ -8,11 +9,15 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/users")
 @RequiredArgsConstructor
 public class UserController {
     private final UserService userService;
+    private final WebSocketSessionRegistry sessionRegistry;
 
 
     @GetMapping("/me")
@@ -20,6 +25,12 @@ public class UserController {
         return ResponseEntity.ok().body(userService.getProfile(userId));
 
     }
+    // 사용자 접속 여부 (WebSocket 연결 기준) - GET /api/users/presence?userIds=1,2,3
+    @GetMapping("/presence")
+    public ResponseEntity<Map<Long, Boolean>> getPresence(@RequestParam List<Long> userIds) {
+        return ResponseEntity.ok().body(sessionRegistry.getPresence(userIds));
+    }
+
     @PatchMapping("/me")
     public ResponseEntity<UserResponse> updateProfile(@AuthenticationPrincipal Long userid, @RequestBody UserUpdateRequest updateRequest) {
 
@@ -1,7 +1,10 @@
 package com.nearsplit.domain.user.entity;
 
+import com.nearsplit.config.HibernateCacheConfig;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.locationtech.jts.geom.Point;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -11,6 +14,8 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.USER_REGION)    // 2차 캐시 (id 조회)
 @EntityListeners(AuditingEntityListener.class)
 @Getter @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
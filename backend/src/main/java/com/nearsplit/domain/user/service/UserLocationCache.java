@@ -0,0 +1,59 @@
+package com.nearsplit.domain.user.service;
+
+import com.nearsplit.common.cache.LocalCache;
+import com.nearsplit.common.exception.BusinessException;
+import com.nearsplit.common.exception.ErrorCode;
+import com.nearsplit.domain.user.entity.User;
+import com.nearsplit.domain.user.repository.UserRepository;
+import org.locationtech.jts.geom.Point;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * packageName  : com.nearsplit.domain.user.service
+ * fileName     : UserLocationCache
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 사용자 위치 좌표 캐시 (주변 그룹 검색 기준 좌표)
+ *                  - 피드 새로고침마다 User 엔티티 전체를 읽지 않도록 userId → 좌표만 보관
+ *                  - 주소(좌표) 변경 시 UserService 에서 커밋 이후 invalidate
+ *                  - 좌표 미등록 사용자는 캐시하지 않음 (등록 직후 바로 반영되도록)
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+@Component
+public class UserLocationCache {
+    private final UserRepository userRepository;
+    private final LocalCache<Long, Point> cache;
+
+    public UserLocationCache(UserRepository userRepository,
+                             @Value("${user.location-cache.max-size:10000}") int maxSize,
+                             @Value("${user.location-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.cache = new LocalCache<>(maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    /**
+     * 사용자 위치 조회 (캐시 → DB)
+     * - 좌표 미등록이면 null
+     */
+    public Point getLocation(Long userId) {
+        Point cached = cache.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        Point location = user.getLocation();
+        cache.put(userId, location);
+        return location;
+    }
+
+    public void invalidate(Long userId) {
+        cache.invalidate(userId);
+    }
+}
@@ -0,0 +1,46 @@
+package com.nearsplit.domain.user.service;
+
+import com.nearsplit.common.cache.LocalCache;
+import com.nearsplit.common.exception.BusinessException;
+import com.nearsplit.common.exception.ErrorCode;
+import com.nearsplit.domain.user.entity.User;
+import com.nearsplit.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * packageName  : com.nearsplit.domain.user.service
+ * fileName     : UserNicknameCache
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 사용자 닉네임 캐시 (채팅 메시지 senderName 등 표시용)
+ *                  - 닉네임 변경 시 UserService 에서 커밋 이후 invalidate
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+@Component
+public class UserNicknameCache {
+    private final UserRepository userRepository;
+    private final LocalCache<Long, String> cache;
+
+    public UserNicknameCache(UserRepository userRepository,
+                             @Value("${user.nickname-cache.max-size:10000}") int maxSize,
+                             @Value("${user.nickname-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.cache = new LocalCache<>(maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    public String getNickname(Long userId) {
+        return cache.get(userId, id -> userRepository.findById(id)
+                .map(User::getNickname)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND)));
+    }
+
+    public void invalidate(Long userId) {
+        cache.invalidate(userId);
+    }
+}
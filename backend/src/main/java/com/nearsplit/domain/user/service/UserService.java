@@ -1,5 +1,6 @@
 package com.nearsplit.domain.user.service;
 
+import com.nearsplit.common.util.TransactionCallbacks;
 import com.nearsplit.domain.user.dto.UserResponse;
 import com.nearsplit.domain.user.dto.UserUpdateRequest;
 import com.nearsplit.domain.user.entity.User;
@@ -21,6 +22,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
     private final UserRepository userRepository;
     private final VWorldGeocodingService vWorldGeocodingService;
+    private final UserLocationCache userLocationCache;
+    private final UserNicknameCache userNicknameCache;
 
     private static final GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);
 
@@ -45,6 +48,8 @@ public class UserService {
             }
         }
 
+        boolean nicknameChanged = request.getNickname() != null && !request.getNickname().equals(target.getNickname());
+
         // 도메인 메서드로 프로필 업데이트
         target.updateProfile(
                 request.getNickname(),
@@ -61,6 +66,14 @@ public class UserService {
                     new org.locationtech.jts.geom.Coordinate(coordinate.getLongitude(), coordinate.getLatitude())
             );
             target.updateCoordinates(location);
+
+            // 주변 그룹 검색 기준 좌표 캐시 무효화 (커밋 이후)
+            TransactionCallbacks.afterCommit(() -> userLocationCache.invalidate(userId));
+        }
+
+        // 채팅 발신자 이름 캐시 무효화 (커밋 이후)
+        if (nicknameChanged) {
+            TransactionCallbacks.afterCommit(() -> userNicknameCache.invalidate(userId));
         }
 
         // @Transactional 내에서는 save() 생략 가능 (Dirty Checking)
@@ -0,0 +1,276 @@
+package com.nearsplit.external.juso.service;
+
+import com.nearsplit.external.juso.dto.AddressDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 주소 접두어 인덱스 (trie)
+ *
+ * 한 번이라도 juso.go.kr 에서 받아온 주소를 메모리에 쌓아두고,
+ * 같은 접두어로 다시 검색하면 외부 API 호출 없이 바로 응답
+ *
+ * - 도로명/지번 주소는 단어 시작 위치마다 접미 문자열을 넣음
+ *   ("서울특별시 강남구 역삼동 123" → "강남구 역삼동 123", "역삼동 123" ...)
+ *   → "역삼동", "강남구 역삼" 처럼 중간 단어부터 입력해도 조회 가능
+ * - 각 문자열은 앞 maxPrefixLength 글자까지만 넣음 (trie 깊이 상한)
+ *   → 더 긴 검색어는 maxPrefixLength 까지 trie 로 찾고 나머지는 주소 원문과 비교
+ * - 노드마다 주소 ID 를 최대 maxPerNode 개까지만 보관 (메모리 상한)
+ * - 노드 수가 maxNodes, 주소 수가 maxAddresses 를 넘으면 오래 조회되지 않은 주소부터 제거 (LRU)
+ */
+@Component
+public class AddressPrefixIndex {
+    private static final int EVICT_TO_PERCENT = 90;     // 한 번 제거할 때 상한의 90% 까지 줄임 (매 추가마다 제거 반복 방지)
+
+    private final int maxPerNode;
+    private final int maxPrefixLength;
+    private final int maxNodes;
+    private final int maxAddresses;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node();
+    private final Map<String, Entry> entries = new HashMap<>();      // 주소 키 → 주소
+    private final AtomicLong accessClock = new AtomicLong();
+    private int nodeCount;
+
+    public AddressPrefixIndex(@Value("${juso.prefix-index.max-per-node:30}") int maxPerNode,
+                              @Value("${juso.prefix-index.max-prefix-length:20}") int maxPrefixLength,
+                              @Value("${juso.prefix-index.max-nodes:200000}") int maxNodes,
+                              @Value("${juso.prefix-index.max-addresses:50000}") int maxAddresses) {
+        this.maxPerNode = maxPerNode;
+        this.maxPrefixLength = maxPrefixLength;
+        this.maxNodes = maxNodes;
+        this.maxAddresses = maxAddresses;
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private final Set<String> addressKeys = new LinkedHashSet<>();
+    }
+
+    private static class Entry {
+        private final AddressDto address;
+        private final Set<String> indexedTexts;     // trie 에 넣은 문자열 (제거할 때 같은 경로를 따라감)
+        private volatile long lastAccess;           // 읽기 락 안에서 갱신 → volatile
+
+        private Entry(AddressDto address, Set<String> indexedTexts, long lastAccess) {
+            this.address = address;
+            this.indexedTexts = indexedTexts;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    /**
+     * 검색 결과로 받은 주소들을 인덱스에 추가
+     */
+    public void addAll(List<AddressDto> results) {
+        lock.writeLock().lock();
+        try {
+            for (AddressDto address : results) {
+                String key = addressKey(address);
+                if (key == null) {
+                    continue;
+                }
+                Entry existing = entries.get(key);
+                if (existing != null) {
+                    existing.lastAccess = accessClock.incrementAndGet();
+                    continue;
+                }
+                Set<String> texts = indexTexts(address);
+                entries.put(key, new Entry(address, texts, accessClock.incrementAndGet()));
+                texts.forEach(text -> insert(text, key));
+            }
+            evictIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 접두어로 주소 조회 (최대 limit 개)
+     */
+    public List<AddressDto> find(String keyword, int limit) {
+        String normalized = normalize(keyword);
+        if (normalized == null) {
+            return List.of();
+        }
+        boolean truncated = normalized.length() > maxPrefixLength;
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < Math.min(normalized.length(), maxPrefixLength) && node != null; i++) {
+                node = node.children.get(normalized.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+            List<AddressDto> result = new ArrayList<>();
+            for (String key : node.addressKeys) {
+                if (result.size() >= limit) {
+                    break;
+                }
+                Entry entry = entries.get(key);
+                if (truncated && !matchesWordPrefix(entry.address, normalized)) {
+                    continue;
+                }
+                entry.lastAccess = accessClock.incrementAndGet();
+                result.add(entry.address);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int nodeCount() {
+        lock.readLock().lock();
+        try {
+            return nodeCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어/주소 정규화 (유니코드 조합형 통일, 연속 공백 제거, 소문자)
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return null;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC)
+                .trim()
+                .replaceAll("\\s+", " ")
+                .toLowerCase(Locale.ROOT);
+        return normalized.isEmpty() ? null : normalized;
+    }
+
+    // ========================================
+    // 내부 메서드
+    // ========================================
+
+    // 도로명/지번 주소의 단어 시작 위치별 접미 문자열 + 건물명 (각각 maxPrefixLength 글자까지)
+    private Set<String> indexTexts(AddressDto address) {
+        Set<String> texts = new LinkedHashSet<>();
+        addSuffixes(texts, normalize(address.getRoadAddr()));
+        addSuffixes(texts, normalize(address.getJibunAddr()));
+        addPrefix(texts, normalize(address.getBdNm()));
+        return texts;
+    }
+
+    private void addSuffixes(Set<String> texts, String normalized) {
+        if (normalized == null) {
+            return;
+        }
+        addPrefix(texts, normalized);
+        for (int i = 0; i < normalized.length(); i++) {
+            if (normalized.charAt(i) == ' ') {
+                addPrefix(texts, normalized.substring(i + 1));
+            }
+        }
+    }
+
+    private void addPrefix(Set<String> texts, String text) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        texts.add(text.length() > maxPrefixLength ? text.substring(0, maxPrefixLength) : text);
+    }
+
+    private void insert(String text, String key) {
+        Node node = root;
+        for (int i = 0; i < text.length(); i++) {
+            Node child = node.children.get(text.charAt(i));
+            if (child == null) {
+                child = new Node();
+                node.children.put(text.charAt(i), child);
+                nodeCount++;
+            }
+            node = child;
+            if (node.addressKeys.size() < maxPerNode) {
+                node.addressKeys.add(key);
+            }
+        }
+    }
+
+    // 상한 초과 시 마지막 조회가 오래된 주소부터 상한의 90% 까지 제거
+    private void evictIfNeeded() {
+        if (nodeCount <= maxNodes && entries.size() <= maxAddresses) {
+            return;
+        }
+        long targetNodes = (long) maxNodes * EVICT_TO_PERCENT / 100;
+        long targetAddresses = (long) maxAddresses * EVICT_TO_PERCENT / 100;
+        List<Map.Entry<String, Entry>> oldestFirst = entries.entrySet().stream()
+                .sorted(Comparator.comparingLong(e -> e.getValue().lastAccess))
+                .toList();
+        for (Map.Entry<String, Entry> candidate : oldestFirst) {
+            if (nodeCount <= targetNodes && entries.size() <= targetAddresses) {
+                break;
+            }
+            entries.remove(candidate.getKey());
+            candidate.getValue().indexedTexts.forEach(text -> remove(text, candidate.getKey()));
+        }
+    }
+
+    // 경로의 노드에서 주소 키 제거 → 비어 버린 말단 노드는 잘라냄
+    private void remove(String text, String key) {
+        Node[] path = new Node[text.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < text.length(); i++) {
+            path[i + 1] = path[i].children.get(text.charAt(i));
+            if (path[i + 1] == null) {
+                return;     // 같은 주소의 다른 문자열을 지우면서 이미 잘려 나간 경로
+            }
+            path[i + 1].addressKeys.remove(key);
+        }
+        for (int i = text.length(); i > 0; i--) {
+            Node node = path[i];
+            if (!node.addressKeys.isEmpty() || !node.children.isEmpty()) {
+                break;
+            }
+            path[i - 1].children.remove(text.charAt(i - 1));
+            nodeCount--;
+        }
+    }
+
+    // maxPrefixLength 보다 긴 검색어 → 주소 원문의 단어 시작 위치에서 검색어 전체가 일치하는지 확인
+    private static boolean matchesWordPrefix(AddressDto address, String keyword) {
+        for (String text : new String[]{address.getRoadAddr(), address.getJibunAddr(), address.getBdNm()}) {
+            String normalized = normalize(text);
+            if (normalized != null && (normalized.startsWith(keyword) || normalized.contains(" " + keyword))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 같은 주소 중복 저장 방지용 키 (도로명주소 + 우편번호)
+    private static String addressKey(AddressDto address) {
+        if (address.getRoadAddr() == null) {
+            return null;
+        }
+        return address.getRoadAddr() + "|" + address.getZipNo();
+    }
+}
@@ -1,12 +1,14 @@
 package com.nearsplit.external.juso.service;
 
+import com.nearsplit.common.cache.LocalCache;
 import com.nearsplit.external.juso.client.JusoApiClient;
 import com.nearsplit.external.juso.dto.AddressDto;
 import com.nearsplit.external.juso.dto.JusoSearchResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -14,13 +16,30 @@ import java.util.stream.Collectors;
 /**
  * 주소 검색 서비스
  * juso.go.kr API를 호출하고 결과를 가공하여 반환
+ *
+ * 키 입력마다 호출되므로 외부 API 호출을 줄이기 위해
+ * 1. 정규화된 검색어 기준 결과 캐시 (TTL)
+ * 2. 이전에 받은 주소로 만든 접두어 인덱스 (한 페이지 분량 이상 있으면 인덱스에서 응답)
+ * 3. 둘 다 없으면 juso.go.kr 호출 후 캐시/인덱스에 저장
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class JusoSearchService {
 
+    private static final int PAGE_SIZE = 10;    // JusoApiClient.search 기본 페이지 크기와 동일
+
     private final JusoApiClient jusoApiClient;
+    private final AddressPrefixIndex addressPrefixIndex;
+    private final LocalCache<String, List<AddressDto>> searchCache;
+
+    public JusoSearchService(JusoApiClient jusoApiClient,
+                             AddressPrefixIndex addressPrefixIndex,
+                             @Value("${juso.search-cache.max-size:2000}") int maxSize,
+                             @Value("${juso.search-cache.ttl-minutes:60}") long ttlMinutes) {
+        this.jusoApiClient = jusoApiClient;
+        this.addressPrefixIndex = addressPrefixIndex;
+        this.searchCache = new LocalCache<>(maxSize, Duration.ofMinutes(ttlMinutes));
+    }
 
     /**
      * 주소 검색
@@ -30,13 +49,26 @@ public class JusoSearchService {
      */
     public List<AddressDto> search(String keyword) {
         // 검색어 유효성 검사
-        if (keyword == null || keyword.trim().isEmpty()) {
+        String normalized = AddressPrefixIndex.normalize(keyword);
+        if (normalized == null) {
             return Collections.emptyList();
         }
 
+        // 1. 검색어 캐시
+        List<AddressDto> cached = searchCache.get(normalized);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 2. 접두어 인덱스 (한 페이지를 다 채울 만큼 쌓여 있을 때만)
+        List<AddressDto> indexed = addressPrefixIndex.find(normalized, PAGE_SIZE);
+        if (indexed.size() >= PAGE_SIZE) {
+            return indexed;
+        }
+
         try {
             // juso.go.kr API 호출
-            JusoSearchResponse response = jusoApiClient.search(keyword.trim());
+            JusoSearchResponse response = jusoApiClient.search(keyword.trim().replaceAll("\\s+", " "));
 
             // 응답 검증
             if (!response.isSuccess()) {
@@ -46,13 +78,18 @@ public class JusoSearchService {
 
             // 결과가 없으면 빈 리스트 반환
             if (response.getResults().getJuso() == null) {
+                searchCache.put(normalized, Collections.emptyList());   // 오타 등 반복 검색도 재호출 X
                 return Collections.emptyList();
             }
 
             // Juso → AddressDto 변환
-            return response.getResults().getJuso().stream()
+            List<AddressDto> results = response.getResults().getJuso().stream()
                     .map(AddressDto::from)
-                    .collect(Collectors.toList());
+                    .collect(Collectors.toUnmodifiableList());     // 캐시에서 공유되므로 불변
+
+            searchCache.put(normalized, results);
+            addressPrefixIndex.addAll(results);
+            return results;
 
         } catch (Exception e) {
             log.error("주소 검색 중 오류 발생: keyword={}, error={}", keyword, e.getMessage());
@@ -0,0 +1,47 @@
+package com.nearsplit.external.vworld.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * packageName  : com.nearsplit.external.vworld.entity
+ * fileName     : GeocodeCache
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 주소 → 좌표 변환 결과 영구 캐시 (정규화된 주소 기준)
+ *                  - 같은 아파트/건물 주소는 반복되므로 VWorld API 재호출 없이 재사용
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+@Entity
+@Table(name = "geocode_cache")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class GeocodeCache {
+    @Id
+    @Column(length = 500)
+    private String normalizedAddress;   // 공백 정리/유니코드 정규화한 주소
+
+    @Column(nullable = false)
+    private double latitude;            // 위도
+    @Column(nullable = false)
+    private double longitude;           // 경도
+
+    @CreatedDate
+    private LocalDateTime createdAt;
+
+    public GeocodeCache(String normalizedAddress, double latitude, double longitude) {
+        this.normalizedAddress = normalizedAddress;
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+}
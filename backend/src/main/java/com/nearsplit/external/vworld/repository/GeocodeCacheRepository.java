@@ -0,0 +1,9 @@
+package com.nearsplit.external.vworld.repository;
+
+import com.nearsplit.external.vworld.entity.GeocodeCache;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface GeocodeCacheRepository extends JpaRepository<GeocodeCache, String> {
+}
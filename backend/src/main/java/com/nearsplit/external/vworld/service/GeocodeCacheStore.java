@@ -0,0 +1,41 @@
+package com.nearsplit.external.vworld.service;
+
+import com.nearsplit.external.vworld.dto.Coordinate;
+import com.nearsplit.external.vworld.entity.GeocodeCache;
+import com.nearsplit.external.vworld.repository.GeocodeCacheRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * packageName  : com.nearsplit.external.vworld.service
+ * fileName     : GeocodeCacheStore
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 지오코딩 DB 캐시(2차) 읽기/쓰기
+ *                  - 호출부(회원 정보 수정) 트랜잭션과 분리 → 캐시 저장 실패가 프로필 수정을 롤백시키지 않도록
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+@Component
+@RequiredArgsConstructor
+public class GeocodeCacheStore {
+    private final GeocodeCacheRepository geocodeCacheRepository;
+
+    @Transactional(readOnly = true)
+    public Optional<Coordinate> find(String normalizedAddress) {
+        return geocodeCacheRepository.findById(normalizedAddress)
+                .map(cache -> new Coordinate(cache.getLatitude(), cache.getLongitude()));
+    }
+
+    // 다른 인스턴스가 같은 주소를 먼저 저장한 경우 PK 충돌 → 호출부에서 무시
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void save(String normalizedAddress, Coordinate coordinate) {
+        geocodeCacheRepository.save(new GeocodeCache(normalizedAddress, coordinate.getLatitude(), coordinate.getLongitude()));
+    }
+}
@@ -1,29 +1,133 @@
 package com.nearsplit.external.vworld.service;
 
+import com.nearsplit.common.cache.LocalCache;
 import com.nearsplit.external.vworld.client.VWorldApiClient;
 import com.nearsplit.external.vworld.dto.Coordinate;
 import com.nearsplit.external.vworld.dto.VWorldGeocodingResponse;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * packageName  : com.nearsplit.external.vworld.service
  * fileName     : VWorldGeocodingService
  * author       : user
  * date         : 2026-02-04(수)
- * description   :
+ * description   : 주소 → 좌표 변환 (VWorld API)
+ *                  - 1차: 메모리 LRU 캐시 / 2차: DB 캐시(geocode_cache) / 없으면 VWorld API 호출
+ *                  - 같은 주소 동시 요청은 한 번만 API 호출하고 결과 공유 (single-flight)
+ *                  - 메트릭: geocode.cache.requests(result=memory|db|miss), geocode.cache.hit.ratio, geocode.upstream.latency
  * ===================================================
  * DATE                   AUTHOR          NOTE
  * ---------------------------------------------------
  * 2026-02-04(수)                user            최초 생성
+ * 2026-10-17(토)                user            2단계 캐시 + single-flight + 메트릭 추가
  */
 
 @Service
-@RequiredArgsConstructor
+@Slf4j
 public class VWorldGeocodingService {
     private final VWorldApiClient client;
+    private final GeocodeCacheStore geocodeCacheStore;
+    private final LocalCache<String, Coordinate> memoryCache;
+
+    // 주소별 진행 중인 조회 (동시 요청 합치기)
+    private final ConcurrentHashMap<String, CompletableFuture<Coordinate>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter memoryHitCounter;
+    private final Counter dbHitCounter;
+    private final Counter missCounter;
+    private final Timer upstreamTimer;
+
+    public VWorldGeocodingService(VWorldApiClient client,
+                                  GeocodeCacheStore geocodeCacheStore,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${vworld.geocode-cache.max-size:5000}") int maxSize,
+                                  @Value("${vworld.geocode-cache.ttl-hours:24}") long ttlHours) {
+        this.client = client;
+        this.geocodeCacheStore = geocodeCacheStore;
+        this.memoryCache = new LocalCache<>(maxSize, Duration.ofHours(ttlHours));
+
+        this.memoryHitCounter = Counter.builder("geocode.cache.requests").tag("result", "memory").register(meterRegistry);
+        this.dbHitCounter = Counter.builder("geocode.cache.requests").tag("result", "db").register(meterRegistry);
+        this.missCounter = Counter.builder("geocode.cache.requests").tag("result", "miss").register(meterRegistry);
+        this.upstreamTimer = Timer.builder("geocode.upstream.latency")
+                .description("VWorld 지오코딩 API 응답 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("geocode.cache.hit.ratio", this, VWorldGeocodingService::hitRatio)
+                .description("메모리 + DB 캐시 적중률")
+                .register(meterRegistry);
+    }
 
     public Coordinate getCoordinate(String address) {
+        String key = normalize(address);
+
+        // 1. 메모리 캐시
+        Coordinate cached = memoryCache.get(key);
+        if (cached != null) {
+            memoryHitCounter.increment();
+            return cached;
+        }
+
+        // 2. 같은 주소를 이미 조회 중이면 그 결과를 기다림
+        CompletableFuture<Coordinate> mine = new CompletableFuture<>();
+        CompletableFuture<Coordinate> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            Coordinate coordinate = loadThrough(key);
+            mine.complete(coordinate);
+            return coordinate;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    // ========================================
+    // 내부 메서드
+    // ========================================
+
+    // DB 캐시 → VWorld API 순서로 조회 후 상위 캐시 채움
+    private Coordinate loadThrough(String key) {
+        Optional<Coordinate> stored = geocodeCacheStore.find(key);
+        if (stored.isPresent()) {
+            dbHitCounter.increment();
+            memoryCache.put(key, stored.get());
+            return stored.get();
+        }
+
+        missCounter.increment();
+        Coordinate coordinate = upstreamTimer.record(() -> requestCoordinate(key));
+
+        try {
+            geocodeCacheStore.save(key, coordinate);
+        } catch (DataAccessException e) {
+            // 다른 인스턴스가 먼저 저장한 경우 등 → 캐시 저장 실패는 무시 (좌표는 정상 반환)
+            log.warn("지오코딩 캐시 저장 실패: address={}, message={}", key, e.getMessage());
+        }
+        memoryCache.put(key, coordinate);
+        return coordinate;
+    }
+
+    private Coordinate requestCoordinate(String address) {
         // 1. API 호출
         VWorldGeocodingResponse response = client.getCoordinate(address);
 
@@ -40,4 +144,35 @@ public class VWorldGeocodingService {
         // 4. Coordinate 객체 반환
         return new Coordinate(latitude, longitude);
     }
+
+    private static Coordinate await(CompletableFuture<Coordinate> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // 같은 주소의 표기 차이(앞뒤/연속 공백, 유니코드 조합형) 제거
+    static String normalize(String address) {
+        if (address == null) {
+            throw new IllegalArgumentException("주소가 비어 있습니다.");
+        }
+        String normalized = Normalizer.normalize(address, Normalizer.Form.NFC)
+                .trim()
+                .replaceAll("\\s+", " ");
+        if (normalized.isEmpty()) {
+            throw new IllegalArgumentException("주소가 비어 있습니다.");
+        }
+        return normalized;
+    }
+
+    private double hitRatio() {
+        double hits = memoryHitCounter.count() + dbHitCounter.count();
+        double total = hits + missCounter.count();
+        return total == 0 ? 0 : hits / total;
+    }
 }
@@ -0,0 +1,19 @@
+-- ===================================================
+-- V10 : 같은 그룹에 같은 사용자 참여 신청 1건 (동시 중복 신청 방지)
+-- - 기존 중복 행은 (그룹, 사용자)별로 1건만 남기고 정리
+--   승인(APPROVED) 행 우선, 같은 상태끼리는 가장 먼저 생성된 행(id 최소) → 이미 승인된 참여가 대기 행 때문에 지워지지 않음
+-- ===================================================
+DELETE FROM participant
+WHERE id IN (
+    SELECT id
+    FROM (
+        SELECT id,
+               ROW_NUMBER() OVER (PARTITION BY split_group_id, user_id
+                                  ORDER BY status = 'APPROVED' DESC, id) AS rn
+        FROM participant
+    ) ranked
+    WHERE ranked.rn > 1
+);
+
+ALTER TABLE participant
+    ADD CONSTRAINT uk_participant_group_user UNIQUE (split_group_id, user_id);
@@ -0,0 +1,14 @@
+-- ===================================================
+-- V11 : 마감일 지난 모집 중 그룹 자동 마감 (SplitGroupDeadlineJob)
+-- - 모집 중 그룹만 담는 (closed_at, id) 부분 인덱스 → 마감 대상 범위 스캔 (마감/완료된 그룹은 인덱스에 없음)
+-- - scheduler_lock : 여러 인스턴스 중 한 곳만 스케줄 작업 실행 (작업 이름당 1행 임대)
+-- ===================================================
+CREATE INDEX IF NOT EXISTS idx_split_group_recruiting_closed_at
+    ON split_group (closed_at, id)
+    WHERE status = 'RECRUITING';
+
+CREATE TABLE IF NOT EXISTS scheduler_lock (
+    name            VARCHAR(100) PRIMARY KEY,
+    locked_until    TIMESTAMP(6) NOT NULL,
+    locked_by       VARCHAR(100) NOT NULL
+);
@@ -0,0 +1,33 @@
+-- ===================================================
+-- V12 : 내 그룹 목록 조회 모델 (GET /api/split/my)
+-- - 사용자 × 그룹 1행 (방장 + 참여자), 그룹 컬럼은 split_group 복사본
+-- - 기존 그룹/참여 신청으로 채움 (방장이 참여자로도 들어가 있으면 방장 행만)
+-- ===================================================
+CREATE TABLE IF NOT EXISTS my_split_group (
+    id                   BIGSERIAL      PRIMARY KEY,
+    user_id              BIGINT         NOT NULL,
+    split_group_id       BIGINT         NOT NULL,
+    is_host              BOOLEAN        NOT NULL,
+    title                VARCHAR(50),
+    total_price          NUMERIC(38, 2),
+    current_participants INTEGER        NOT NULL,
+    max_participants     INTEGER        NOT NULL,
+    status               VARCHAR(255)   NOT NULL,
+    closed_at            DATE,
+    joined_at            TIMESTAMP(6),
+    CONSTRAINT uk_my_split_group_user_group UNIQUE (user_id, split_group_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_my_split_group_group ON my_split_group (split_group_id);
+
+INSERT INTO my_split_group (user_id, split_group_id, is_host, title, total_price,
+                            current_participants, max_participants, status, closed_at, joined_at)
+SELECT g.host_user_id, g.id, TRUE, g.title, g.total_price,
+       g.current_participants, g.max_participants, g.status, g.closed_at, g.created_at
+FROM split_group g
+UNION ALL
+SELECT p.user_id, g.id, FALSE, g.title, g.total_price,
+       g.current_participants, g.max_participants, g.status, g.closed_at, p.joined_at
+FROM participant p
+JOIN split_group g ON g.id = p.split_group_id
+WHERE p.user_id <> g.host_user_id;
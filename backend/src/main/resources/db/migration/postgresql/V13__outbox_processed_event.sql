@@ -0,0 +1,15 @@
+-- ===================================================
+-- V13 : 아웃박스 이벤트 핸들러별 처리 기록 (멱등 처리)
+-- - (event_id, consumer) 유니크 → 릴레이 재시도 / Kafka 재전달로 같은 이벤트가 와도 핸들러당 한 번만 처리
+-- - processed_at 인덱스 : OutboxRelay 정리 작업이 보관 기간 지난 기록 삭제
+-- ===================================================
+CREATE TABLE IF NOT EXISTS outbox_processed_event (
+    id              BIGSERIAL PRIMARY KEY,
+    event_id        BIGINT NOT NULL,
+    consumer        VARCHAR(100) NOT NULL,
+    processed_at    TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_outbox_processed_event_consumer UNIQUE (event_id, consumer)
+);
+
+CREATE INDEX IF NOT EXISTS idx_outbox_processed_event_processed_at
+    ON outbox_processed_event (processed_at);
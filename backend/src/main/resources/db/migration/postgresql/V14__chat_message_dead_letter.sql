@@ -0,0 +1,20 @@
+-- ===================================================
+-- V14 : 저장에 끝내 실패한 채팅 메시지 보관 (ChatMessageWriteBuffer)
+-- - 이미 브로드캐스트된 메시지 → 묶음 재시도 / 건별 저장까지 실패한 메시지만 원본 그대로 기록
+-- - 제약 위반이 원인일 수 있으므로 원본 컬럼은 모두 nullable / 길이 제한 없음
+-- ===================================================
+CREATE TABLE IF NOT EXISTS chat_message_dead_letter (
+    id              BIGSERIAL PRIMARY KEY,
+    message_id      BIGINT,
+    group_id        BIGINT,
+    sender_id       BIGINT,
+    sender_name     TEXT,
+    content         TEXT,
+    type            VARCHAR(20),
+    created_at      TIMESTAMP(6),
+    error           VARCHAR(500),
+    failed_at       TIMESTAMP(6)   NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_chat_message_dead_letter_failed_at
+    ON chat_message_dead_letter (failed_at);
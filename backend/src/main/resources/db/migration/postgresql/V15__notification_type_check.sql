@@ -0,0 +1,22 @@
+-- ===================================================
+-- V15 : notification.type CHECK 제약 제거
+-- - 기존 운영 DB 는 ddl-auto 로 생성 → Hibernate 가 enum 값 목록으로 CHECK (type IN (...)) 를 만듦
+-- - 이후 추가된 GROUP_CLOSED / PAYMENT_CONFIRMED / PAYMENT_CANCELED 저장이 제약 위반으로 실패
+-- - 값 검증은 애플리케이션 enum 이 담당 (V1 기준 스키마와 동일하게 제약 없음) → enum 추가마다 마이그레이션 불필요
+-- - 제약 이름은 생성 방식에 따라 다를 수 있으므로 type 컬럼 하나에 걸린 CHECK 제약을 모두 제거
+-- ===================================================
+DO $$
+DECLARE
+    constraint_name TEXT;
+BEGIN
+    FOR constraint_name IN
+        SELECT c.conname
+        FROM pg_constraint c
+        JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attname = 'type'
+        WHERE c.conrelid = 'notification'::regclass
+          AND c.contype = 'c'
+          AND c.conkey = ARRAY[a.attnum]
+    LOOP
+        EXECUTE format('ALTER TABLE notification DROP CONSTRAINT %I', constraint_name);
+    END LOOP;
+END $$;
@@ -0,0 +1,103 @@
+-- ===================================================
+-- V1 : 기준 스키마 (ddl-auto: update 로 만들어지던 테이블 그대로)
+--  - 이미 운영 중인 DB 는 baseline-on-migrate(baseline-version 1)로 이 파일을 건너뜀
+--  - 신규 DB 에서만 실제로 실행됨
+-- ===================================================
+CREATE EXTENSION IF NOT EXISTS postgis;
+
+CREATE TABLE IF NOT EXISTS users (
+    id              BIGSERIAL PRIMARY KEY,
+    email           VARCHAR(255)   NOT NULL UNIQUE,
+    password        VARCHAR(255)   NOT NULL,
+    name            VARCHAR(50)    NOT NULL,
+    nickname        VARCHAR(255)   NOT NULL UNIQUE,
+    phone           VARCHAR(20),
+    location        geometry(Point, 4326),
+    profile_image   VARCHAR(500),
+    address         VARCHAR(500),
+    trust_score     NUMERIC(38, 2),
+    is_verified     BOOLEAN        NOT NULL DEFAULT FALSE,
+    created_at      TIMESTAMP(6),
+    updated_at      TIMESTAMP(6),
+    deleted_at      TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS products (
+    id              BIGSERIAL PRIMARY KEY,
+    external_id     VARCHAR(255),
+    external_source VARCHAR(255),
+    name            VARCHAR(255)   NOT NULL,
+    price           NUMERIC(38, 2) NOT NULL,
+    image_url       VARCHAR(255),
+    product_url     VARCHAR(255),
+    description     VARCHAR(255),
+    created_at      TIMESTAMP(6),
+    updated_at      TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS split_group (
+    id                   BIGSERIAL PRIMARY KEY,
+    host_user_id         BIGINT         NOT NULL,
+    location             geometry(Point, 4326),
+    product_id           BIGINT,
+    title                VARCHAR(50),
+    total_price          NUMERIC(38, 2),
+    max_participants     INTEGER        NOT NULL,
+    current_participants INTEGER        NOT NULL,
+    pickup_location      VARCHAR(255),
+    pickup_date          DATE,
+    closed_at            DATE,
+    status               VARCHAR(255)   NOT NULL,
+    created_at           TIMESTAMP(6),
+    updated_at           TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS participant (
+    id              BIGSERIAL PRIMARY KEY,
+    split_group_id  BIGINT         NOT NULL REFERENCES split_group (id),
+    user_id         BIGINT         NOT NULL,
+    quantity        INTEGER,
+    share_amount    NUMERIC(38, 2),
+    status          VARCHAR(255)   NOT NULL,
+    joined_at       TIMESTAMP(6),
+    updated_at      TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS notification (
+    id              BIGSERIAL PRIMARY KEY,
+    user_id         BIGINT,
+    type            VARCHAR(255),
+    title           VARCHAR(255),
+    message         VARCHAR(255),
+    reference_id    BIGINT,
+    reference_type  VARCHAR(255),
+    is_read         BOOLEAN        NOT NULL DEFAULT FALSE,
+    created_at      TIMESTAMP(6),
+    updated_at      TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS chat_messages (
+    id              BIGSERIAL PRIMARY KEY,
+    group_id        BIGINT         NOT NULL,
+    sender_id       BIGINT         NOT NULL,
+    sender_name     VARCHAR(50)    NOT NULL,
+    content         TEXT           NOT NULL,
+    type            VARCHAR(255)   NOT NULL,
+    created_at      TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS payment (
+    id              BIGSERIAL PRIMARY KEY,
+    payment_key     VARCHAR(255)   NOT NULL UNIQUE,
+    order_id        VARCHAR(255)   NOT NULL UNIQUE,
+    amount          INTEGER        NOT NULL,
+    order_name      VARCHAR(255),
+    method          VARCHAR(255),
+    status          VARCHAR(255),
+    user_id         BIGINT REFERENCES users (id),
+    group_id        BIGINT REFERENCES split_group (id),
+    card_company    VARCHAR(255),
+    card_number     VARCHAR(255),
+    approved_at     TIMESTAMP(6),
+    created_at      TIMESTAMP(6)
+);
@@ -0,0 +1,15 @@
+-- ===================================================
+-- V2 : 주변 그룹 검색용 geography 컬럼 + GiST 인덱스
+--  - 기존 쿼리는 location::geography 를 조회 시점에 계산 → 인덱스를 못 타고 전체 스캔
+--  - location 에서 파생되는 저장(generated) 컬럼이라 애플리케이션 쓰기 경로는 변경 없음
+--  - 검색 대상은 모집 중 그룹뿐이므로 부분 인덱스로 크기 최소화
+-- ===================================================
+ALTER TABLE split_group
+    ADD COLUMN IF NOT EXISTS location_geog geography(Point, 4326)
+        GENERATED ALWAYS AS (location::geography) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_split_group_location_geog_recruiting
+    ON split_group USING GIST (location_geog)
+    WHERE status = 'RECRUITING';
+
+ANALYZE split_group;
@@ -0,0 +1,9 @@
+-- ===================================================
+-- V3 : 지오코딩 결과 캐시 (정규화된 주소 → 위도/경도)
+-- ===================================================
+CREATE TABLE IF NOT EXISTS geocode_cache (
+    normalized_address  VARCHAR(500)     PRIMARY KEY,
+    latitude            DOUBLE PRECISION NOT NULL,
+    longitude           DOUBLE PRECISION NOT NULL,
+    created_at          TIMESTAMP(6)
+);
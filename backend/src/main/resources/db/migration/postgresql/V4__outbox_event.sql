@@ -0,0 +1,19 @@
+-- ===================================================
+-- V4 : 트랜잭셔널 아웃박스 (도메인 이벤트 발행 대기열)
+-- ===================================================
+CREATE TABLE IF NOT EXISTS outbox_event (
+    id              BIGSERIAL PRIMARY KEY,
+    event_type      VARCHAR(50)  NOT NULL,
+    aggregate_id    BIGINT       NOT NULL,
+    payload         TEXT         NOT NULL,
+    status          VARCHAR(20)  NOT NULL,
+    attempts        INTEGER      NOT NULL DEFAULT 0,
+    last_error      VARCHAR(500),
+    created_at      TIMESTAMP(6),
+    published_at    TIMESTAMP(6)
+);
+
+CREATE INDEX IF NOT EXISTS idx_outbox_event_status_id ON outbox_event (status, id);
+
+-- 릴레이는 PENDING 만 조회 → 부분 인덱스로 발행 완료 이벤트가 쌓여도 조회 비용 일정
+CREATE INDEX IF NOT EXISTS idx_outbox_event_pending ON outbox_event (id) WHERE status = 'PENDING';
@@ -0,0 +1,8 @@
+-- ===================================================
+-- V5 : 사용자별 전체 읽음 워터마크 (알림 ID <= last_read_id 는 읽음)
+-- ===================================================
+CREATE TABLE IF NOT EXISTS notification_read_marker (
+    user_id         BIGINT       PRIMARY KEY,
+    last_read_id    BIGINT       NOT NULL,
+    updated_at      TIMESTAMP(6)
+);
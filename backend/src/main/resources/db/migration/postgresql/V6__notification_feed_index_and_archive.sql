@@ -0,0 +1,20 @@
+-- ===================================================
+-- V6 : 알림 피드 커서 조회용 복합 인덱스 + 오래된 읽은 알림 보관 테이블
+-- ===================================================
+CREATE INDEX IF NOT EXISTS idx_notification_user_created_id
+    ON notification (user_id, created_at DESC, id DESC);
+
+CREATE TABLE IF NOT EXISTS notification_archive (
+    id              BIGINT         PRIMARY KEY,
+    user_id         BIGINT,
+    type            VARCHAR(255),
+    title           VARCHAR(255),
+    message         VARCHAR(255),
+    reference_id    BIGINT,
+    reference_type  VARCHAR(255),
+    created_at      TIMESTAMP(6),
+    archived_at     TIMESTAMP(6)
+);
+
+CREATE INDEX IF NOT EXISTS idx_notification_archive_user_created
+    ON notification_archive (user_id, created_at);
@@ -0,0 +1,9 @@
+-- ===================================================
+-- V7 : 채팅 메시지 ID 를 애플리케이션에서 발급 (Snowflake) → DB 시퀀스 기본값 제거
+--  - 기존 운영 DB 는 ddl-auto 로 생성 → id 가 IDENTITY 컬럼 (DROP DEFAULT 불가, 시퀀스는 IDENTITY 가 소유)
+--  - V1 로 생성한 DB 는 BIGSERIAL → 기본값 + 시퀀스 제거
+--  - 두 경우 모두 순서대로 실행해도 안전 (해당 없는 단계는 아무 것도 안 함)
+-- ===================================================
+ALTER TABLE chat_messages ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE chat_messages ALTER COLUMN id DROP DEFAULT;
+DROP SEQUENCE IF EXISTS chat_messages_id_seq;
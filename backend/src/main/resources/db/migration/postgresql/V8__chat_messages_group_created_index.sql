@@ -0,0 +1,5 @@
+-- ===================================================
+-- V8 : 채팅 히스토리 커서 조회(이전 메시지)용 복합 인덱스
+-- ===================================================
+CREATE INDEX IF NOT EXISTS idx_chat_messages_group_created_id
+    ON chat_messages (group_id, created_at, id);
@@ -0,0 +1,6 @@
+-- ===================================================
+-- V9 : 낙관적 락 / 조건부 GET(ETag) 용 버전 컬럼
+-- - 기존 행은 0 부터 시작 (JPA @Version 은 null 버전을 허용하지 않음)
+-- ===================================================
+ALTER TABLE split_group ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE products ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,69 @@
+package com.nearsplit.common.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * packageName  : com.nearsplit.common.cache
+ * fileName     : LocalCacheTest
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 로컬 캐시 TTL / LRU 제거 단위 테스트
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+class LocalCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void TTL이_지나면_다시_로드() {
+        // given
+        LocalCache<Long, String> cache = new LocalCache<>(10, Duration.ofSeconds(60), now::get);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // when
+        cache.get(1L, k -> "v" + loadCount.incrementAndGet());
+        cache.get(1L, k -> "v" + loadCount.incrementAndGet());
+        now.addAndGet(Duration.ofSeconds(61).toNanos());
+        String reloaded = cache.get(1L, k -> "v" + loadCount.incrementAndGet());
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+        assertThat(reloaded).isEqualTo("v2");
+        assertThat(cache.hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 최대개수_초과시_가장_오래_안쓴_항목_제거() {
+        // given
+        LocalCache<Long, String> cache = new LocalCache<>(2, Duration.ofMinutes(1), now::get);
+        cache.put(1L, "a");
+        cache.put(2L, "b");
+        cache.get(1L);          // 1 최근 사용
+
+        // when
+        cache.put(3L, "c");
+
+        // then
+        assertThat(cache.get(2L)).isNull();
+        assertThat(cache.get(1L)).isEqualTo("a");
+        assertThat(cache.get(3L)).isEqualTo("c");
+    }
+
+    @Test
+    void null_값은_저장하지_않음() {
+        LocalCache<Long, String> cache = new LocalCache<>(10, Duration.ofMinutes(1), now::get);
+
+        cache.get(1L, k -> null);
+
+        assertThat(cache.size()).isZero();
+    }
+}
@@ -0,0 +1,71 @@
+package com.nearsplit.common.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * packageName  : com.nearsplit.common.outbox
+ * fileName     : KafkaOutboxPublisherTest
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 아웃박스 Kafka 발행 테스트 (임베디드 브로커, 스프링 컨텍스트 없이)
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+@EmbeddedKafka(partitions = 1, topics = {OutboxEventType.SPLIT_GROUP_TOPIC, OutboxEventType.PAYMENT_TOPIC})
+class KafkaOutboxPublisherTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    void 이벤트_종류별_토픽으로_aggregateId_키와_함께_발행(EmbeddedKafkaBroker broker) throws Exception {
+        // given
+        Map<String, Object> producerProps = KafkaTestUtils.producerProps(broker);
+        KafkaTemplate<String, String> kafkaTemplate = new KafkaTemplate<>(
+                new DefaultKafkaProducerFactory<>(producerProps, new StringSerializer(), new StringSerializer()));
+        KafkaOutboxPublisher publisher = new KafkaOutboxPublisher(kafkaTemplate, objectMapper, 10_000);
+
+        OutboxEvent joinRequested = OutboxEvent.create(OutboxEventType.SPLIT_GROUP_JOIN_REQUESTED, 10L,
+                "{\"groupId\":10,\"hostUserId\":1,\"participantUserId\":2,\"memberUserIds\":[]}");
+        OutboxEvent paymentConfirmed = OutboxEvent.create(OutboxEventType.PAYMENT_CONFIRMED, 77L,
+                "{\"paymentId\":77,\"groupId\":10,\"payerUserId\":2,\"hostUserId\":1,\"amount\":5000}");
+
+        // when
+        Map<OutboxEvent, String> failures = publisher.publish(List.of(joinRequested, paymentConfirmed));
+
+        // then
+        assertThat(failures).isEmpty();
+        Map<String, Object> consumerProps = KafkaTestUtils.consumerProps("outbox-test", "false", broker);
+        try (Consumer<String, String> consumer = new DefaultKafkaConsumerFactory<>(consumerProps,
+                new StringDeserializer(), new StringDeserializer()).createConsumer()) {
+            broker.consumeFromAllEmbeddedTopics(consumer);
+
+            ConsumerRecord<String, String> groupRecord = KafkaTestUtils.getSingleRecord(consumer, OutboxEventType.SPLIT_GROUP_TOPIC);
+            assertThat(groupRecord.key()).isEqualTo("10");
+            OutboxEnvelope envelope = objectMapper.readValue(groupRecord.value(), OutboxEnvelope.class);
+            assertThat(envelope.eventType()).isEqualTo(OutboxEventType.SPLIT_GROUP_JOIN_REQUESTED);
+            assertThat(envelope.aggregateId()).isEqualTo(10L);
+
+            ConsumerRecord<String, String> paymentRecord = KafkaTestUtils.getSingleRecord(consumer, OutboxEventType.PAYMENT_TOPIC);
+            assertThat(paymentRecord.key()).isEqualTo("77");
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.nearsplit.common.outbox;
+
+import com.nearsplit.config.QueryDslConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * packageName  : com.nearsplit.common.outbox
+ * fileName     : OutboxEventDispatcherTest
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 아웃박스 이벤트 전달 멱등 처리 테스트 (같은 이벤트 재수신 / 핸들러 실패 후 재시도)
+ *                  - dispatch 가 REQUIRES_NEW 로 커밋되므로 테스트 트랜잭션은 사용하지 않음 (데이터는 직접 정리)
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+@DataJpaTest
+@Import({QueryDslConfig.class, OutboxEventDispatcher.class, OutboxEventDispatcherTest.CountingHandlerConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxEventDispatcherTest {
+
+    @Autowired
+    private OutboxEventDispatcher outboxEventDispatcher;
+    @Autowired
+    private ProcessedOutboxEventRepository processedOutboxEventRepository;
+    @Autowired
+    private CountingHandler countingHandler;
+
+    @AfterEach
+    void 정리() {
+        processedOutboxEventRepository.deleteAllInBatch();
+        countingHandler.handled.set(0);
+        countingHandler.failNext = false;
+    }
+
+    @Test
+    void 같은_이벤트를_다시_받아도_한_번만_처리() {
+        // given
+        OutboxEnvelope envelope = envelope(100L);
+
+        // when - 릴레이 재시도 / Kafka 재전달
+        outboxEventDispatcher.dispatch(envelope);
+        outboxEventDispatcher.dispatch(envelope);
+
+        // then
+        assertThat(countingHandler.handled.get()).isEqualTo(1);
+        assertThat(processedOutboxEventRepository.existsByEventIdAndConsumer(100L, "CountingHandler")).isTrue();
+    }
+
+    @Test
+    void 핸들러_실패시_처리_기록도_롤백되어_재시도_가능() {
+        // given
+        OutboxEnvelope envelope = envelope(200L);
+        countingHandler.failNext = true;
+
+        // when
+        assertThatThrownBy(() -> outboxEventDispatcher.dispatch(envelope)).isInstanceOf(IllegalStateException.class);
+        outboxEventDispatcher.dispatch(envelope);
+
+        // then
+        assertThat(countingHandler.handled.get()).isEqualTo(1);
+        assertThat(processedOutboxEventRepository.count()).isEqualTo(1);
+    }
+
+    private OutboxEnvelope envelope(Long eventId) {
+        return new OutboxEnvelope(eventId, OutboxEventType.SPLIT_GROUP_JOIN_REQUESTED, 10L, "{}", LocalDateTime.now());
+    }
+
+    @TestConfiguration
+    static class CountingHandlerConfig {
+        @Bean
+        CountingHandler countingHandler() {
+            return new CountingHandler();
+        }
+    }
+
+    static class CountingHandler implements OutboxEventHandler {
+        private final AtomicInteger handled = new AtomicInteger();
+        private volatile boolean failNext;
+
+        @Override
+        public Set<OutboxEventType> supportedTypes() {
+            return EnumSet.of(OutboxEventType.SPLIT_GROUP_JOIN_REQUESTED);
+        }
+
+        @Override
+        public void handle(OutboxEnvelope envelope) {
+            if (failNext) {
+                failNext = false;
+                throw new IllegalStateException("처리 실패");
+            }
+            handled.incrementAndGet();
+        }
+    }
+}
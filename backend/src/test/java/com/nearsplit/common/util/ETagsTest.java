@@ -0,0 +1,54 @@
+package com.nearsplit.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * packageName  : com.nearsplit.common.util
+ * fileName     : ETagsTest
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : ETag 값 생성 단위 테스트 (같은 버전 → 같은 값 / null 처리 / 시각 정밀도)
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+class ETagsTest {
+
+    @Test
+    void 같은_구성_값이면_같은_ETag() {
+        // given
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 10, 17, 12, 0, 0, 123_456_000);
+
+        // when
+        String first = ETags.of(3L, 2L, updatedAt);
+        String second = ETags.of(3L, 2L, LocalDateTime.of(2026, 10, 17, 12, 0, 0, 123_456_000));
+
+        // then
+        assertThat(first).isEqualTo(second);
+        assertThat(first).doesNotContain("\"");
+    }
+
+    @Test
+    void null_은_0_으로_표현() {
+        // when
+        String etag = ETags.of(null, 0L, null);
+
+        // then
+        assertThat(etag).isEqualTo("0-0-0");
+    }
+
+    @Test
+    void 마이크로초_단위_변경도_구분() {
+        // given
+        LocalDateTime before = LocalDateTime.of(2026, 10, 17, 12, 0, 0, 1_000);
+        LocalDateTime after = before.plusNanos(1_000);
+
+        // when & then
+        assertThat(ETags.of(1L, before)).isNotEqualTo(ETags.of(1L, after));
+    }
+}
@@ -0,0 +1,113 @@
+package com.nearsplit.common.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * packageName  : com.nearsplit.common.util
+ * fileName     : SnowflakeIdGeneratorTest
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : Snowflake ID 발급 단위 테스트 (증가 순서 / 시퀀스 소진 / 시계 역행 / worker-id 필수 여부)
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ * 2026-10-17(토)                user            worker-id 미설정 테스트 추가
+ */
+class SnowflakeIdGeneratorTest {
+
+    private final AtomicLong now = new AtomicLong(Instant.parse("2026-10-17T00:00:00Z").toEpochMilli());
+
+    @Test
+    void 같은_ms_안에서도_증가하는_ID_발급() {
+        // given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3, now::get);
+
+        // when
+        long first = generator.nextId();
+        long second = generator.nextId();
+
+        // then
+        assertThat(second).isGreaterThan(first);
+        assertThat(SnowflakeIdGenerator.timestampOf(first)).isEqualTo(now.get());
+    }
+
+    @Test
+    void 시퀀스_소진시_다음_ms_로_넘어감() {
+        // given - 처음 129번 호출까지는 같은 ms, 이후 1ms 진행
+        long base = now.get();
+        AtomicInteger calls = new AtomicInteger();
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0,
+                () -> calls.incrementAndGet() <= 129 ? base : base + 1);
+        Set<Long> ids = new HashSet<>();
+        long previous = 0;
+
+        // when - 한 ms 에 발급 가능한 128개 + 1
+        for (int i = 0; i < 129; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+            ids.add(id);
+        }
+
+        // then
+        assertThat(ids).hasSize(129);
+        assertThat(SnowflakeIdGenerator.timestampOf(previous)).isEqualTo(base + 1);
+    }
+
+    @Test
+    void 시계가_뒤로_가도_ID_는_감소하지_않음() {
+        // given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, now::get);
+        long before = generator.nextId();
+
+        // when
+        now.addAndGet(-5_000);
+        long after = generator.nextId();
+
+        // then
+        assertThat(after).isGreaterThan(before);
+    }
+
+    @Test
+    void JS_Number_범위_안의_ID() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(31, now::get);
+
+        assertThat(generator.nextId()).isLessThan(1L << 53);
+    }
+
+    @Test
+    void 범위를_벗어난_워커_ID_는_거부() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(32, now::get))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 워커_ID_미설정시_dev_외_프로필은_기동_실패() {
+        MockEnvironment environment = new MockEnvironment();
+        environment.setActiveProfiles("prod");
+
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(null, environment))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void 워커_ID_미설정시_dev_프로필은_0_사용() {
+        MockEnvironment environment = new MockEnvironment();
+        environment.setActiveProfiles("dev");
+
+        long id = new SnowflakeIdGenerator(null, environment).nextId();
+
+        assertThat((id >>> 7) & 31).isZero();
+    }
+}
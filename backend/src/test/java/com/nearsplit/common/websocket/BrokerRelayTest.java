@@ -0,0 +1,96 @@
+package com.nearsplit.common.websocket;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * packageName  : com.nearsplit.common.websocket
+ * fileName     : BrokerRelayTest
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 브로커 백플레인 중계 단위 테스트 (인메모리 백플레인으로 인스턴스 2대 흉내)
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+class BrokerRelayTest {
+
+    private final InMemoryBrokerBackplane backplane = new InMemoryBrokerBackplane();
+    private final List<Message<?>> nodeAReceived = new ArrayList<>();
+    private final List<Message<?>> nodeBReceived = new ArrayList<>();
+    private final BrokerRelay nodeA = new BrokerRelay(backplane, capture(nodeAReceived), "node-a");
+    private final BrokerRelay nodeB = new BrokerRelay(backplane, capture(nodeBReceived), "node-b");
+
+    @Test
+    void 다른_인스턴스_구독자에게_topic_메시지_중계() {
+        // given
+        nodeA.afterSingletonsInstantiated();
+        nodeB.afterSingletonsInstantiated();
+        Message<byte[]> message = brokerMessage("/topic/chat/1", "{\"content\":\"hi\"}");
+
+        // when - A 인스턴스에서 전송
+        Message<?> passed = nodeA.preSend(message, capture(new ArrayList<>()));
+
+        // then - A 는 로컬로 그대로 전달, B 는 백플레인 통해 재전송
+        assertThat(passed).isSameAs(message);
+        assertThat(nodeAReceived).isEmpty();
+        assertThat(nodeBReceived).hasSize(1);
+
+        SimpMessageHeaderAccessor relayed = SimpMessageHeaderAccessor.wrap(nodeBReceived.get(0));
+        assertThat(relayed.getDestination()).isEqualTo("/topic/chat/1");
+        assertThat(relayed.getContentType()).isEqualTo(MimeTypeUtils.APPLICATION_JSON);
+        assertThat(new String((byte[]) nodeBReceived.get(0).getPayload(), StandardCharsets.UTF_8))
+                .isEqualTo("{\"content\":\"hi\"}");
+    }
+
+    @Test
+    void 중계된_메시지는_다시_발행하지_않음() {
+        // given
+        nodeA.afterSingletonsInstantiated();
+        nodeB.afterSingletonsInstantiated();
+        nodeA.preSend(brokerMessage("/topic/notification/7", "{}"), capture(new ArrayList<>()));
+
+        // when - B 브로커 채널에 들어온 중계 메시지가 다시 인터셉터를 거침
+        nodeB.preSend(nodeBReceived.get(0), capture(new ArrayList<>()));
+
+        // then
+        assertThat(nodeAReceived).isEmpty();
+        assertThat(nodeBReceived).hasSize(1);
+    }
+
+    @Test
+    void topic_이외_목적지는_중계하지_않음() {
+        // given
+        nodeA.afterSingletonsInstantiated();
+        nodeB.afterSingletonsInstantiated();
+
+        // when
+        nodeA.preSend(brokerMessage("/queue/private", "{}"), capture(new ArrayList<>()));
+
+        // then
+        assertThat(nodeBReceived).isEmpty();
+    }
+
+    private Message<byte[]> brokerMessage(String destination, String json) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        return MessageBuilder.createMessage(json.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+    }
+
+    private MessageChannel capture(List<Message<?>> received) {
+        return (message, timeout) -> received.add(message);
+    }
+}
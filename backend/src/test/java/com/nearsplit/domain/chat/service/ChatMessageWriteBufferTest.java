@@ -0,0 +1,98 @@
+package com.nearsplit.domain.chat.service;
+
+import com.nearsplit.domain.chat.entity.ChatMessage;
+import com.nearsplit.domain.chat.repository.ChatMessageDeadLetterRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * packageName  : com.nearsplit.domain.chat.service
+ * fileName     : ChatMessageWriteBufferTest
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 채팅 쓰기 지연 버퍼 저장 실패 처리 단위 테스트 (재시도 / 메시지별 저장 / 실패 메시지 보관)
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+class ChatMessageWriteBufferTest {
+
+    private static final long BAD_MESSAGE_ID = 3L;
+
+    private final List<Long> written = new ArrayList<>();
+    private final List<Long> deadLetters = new ArrayList<>();
+    private final AtomicInteger transientFailures = new AtomicInteger();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void 일시적_실패는_재시도로_묶음_저장() {
+        // given - 처음 2번 실패 후 성공
+        transientFailures.set(2);
+        ChatMessageWriteBuffer buffer = buffer();
+
+        // when
+        buffer.flush(List.of(message(1L), message(2L)));
+
+        // then
+        assertThat(written).containsExactly(1L, 2L);
+        assertThat(deadLetters).isEmpty();
+        assertThat(meterRegistry.counter("chat.write-behind.batch.fallbacks").count()).isZero();
+    }
+
+    @Test
+    void 문제_메시지만_보관하고_나머지는_메시지별로_저장() {
+        // given
+        ChatMessageWriteBuffer buffer = buffer();
+
+        // when - 묶음에 저장 불가 메시지 1건 포함 → 묶음 저장은 계속 실패
+        buffer.flush(List.of(message(1L), message(2L), message(BAD_MESSAGE_ID), message(4L)));
+
+        // then
+        assertThat(written).containsExactly(1L, 2L, 4L);
+        assertThat(deadLetters).containsExactly(BAD_MESSAGE_ID);
+        assertThat(meterRegistry.counter("chat.write-behind.batch.fallbacks").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("chat.write-behind.dead-lettered").count()).isEqualTo(1);
+    }
+
+    private ChatMessageWriteBuffer buffer() {
+        ChatMessageWriter writer = new ChatMessageWriter(null, null) {
+            @Override
+            public void write(List<ChatMessage> messages) {
+                if (transientFailures.getAndUpdate(n -> Math.max(n - 1, 0)) > 0) {
+                    throw new IllegalStateException("일시적 연결 실패");
+                }
+                if (messages.stream().anyMatch(m -> m.getId() == BAD_MESSAGE_ID)) {
+                    throw new IllegalStateException("제약 조건 위반");
+                }
+                messages.forEach(m -> written.add(m.getId()));
+            }
+        };
+        ChatMessageDeadLetterRepository deadLetterRepository = new ChatMessageDeadLetterRepository(null) {
+            @Override
+            public void insert(ChatMessage message, String error) {
+                deadLetters.add(message.getId());
+            }
+        };
+        return new ChatMessageWriteBuffer(writer, deadLetterRepository, meterRegistry, true, 100, 200, 50, 100, 1);
+    }
+
+    private ChatMessage message(Long id) {
+        return ChatMessage.builder()
+                .id(id)
+                .groupId(1L)
+                .senderId(1L)
+                .senderName("작성자")
+                .content("메시지 " + id)
+                .type(ChatMessage.MessageType.CHAT)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
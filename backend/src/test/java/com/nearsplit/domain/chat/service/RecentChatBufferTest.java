@@ -0,0 +1,107 @@
+package com.nearsplit.domain.chat.service;
+
+import com.nearsplit.domain.chat.dto.ChatMessageResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * packageName  : com.nearsplit.domain.chat.service
+ * fileName     : RecentChatBufferTest
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 채팅방 최근 메시지 버퍼 단위 테스트 (DB 병합 / 보관 개수 / 재동기화 / LRU)
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+class RecentChatBufferTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void 첫_조회시_DB_결과와_새_메시지_병합() {
+        // given - 버퍼 생성 전에 전송된 메시지 1건 + DB 에 있는 이전 메시지 2건
+        RecentChatBuffer buffer = new RecentChatBuffer(50, 10, 60, now::get);
+        buffer.append(message(1L, 3L));
+
+        // when
+        List<ChatMessageResponse> recent = buffer.getRecent(1L, () -> List.of(message(1L, 2L), message(1L, 1L)));
+
+        // then - 최신순
+        assertThat(recent).extracting(ChatMessageResponse::getMessageId).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    void 동기화_이후에는_DB_조회하지_않고_최근_N개만_유지() {
+        // given
+        RecentChatBuffer buffer = new RecentChatBuffer(3, 10, 60, now::get);
+        AtomicInteger loadCount = new AtomicInteger();
+        buffer.getRecent(1L, () -> {
+            loadCount.incrementAndGet();
+            return List.of();
+        });
+
+        // when
+        for (long id = 1; id <= 5; id++) {
+            buffer.append(message(1L, id));
+        }
+        List<ChatMessageResponse> recent = buffer.getRecent(1L, () -> {
+            loadCount.incrementAndGet();
+            return List.of();
+        });
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(recent).extracting(ChatMessageResponse::getMessageId).containsExactly(5L, 4L, 3L);
+    }
+
+    @Test
+    void 재동기화_주기가_지나면_DB_결과_반영() {
+        // given
+        RecentChatBuffer buffer = new RecentChatBuffer(50, 10, 60, now::get);
+        buffer.getRecent(1L, List::of);
+
+        // when - 다른 인스턴스로 전송된 메시지가 DB 에만 있는 상태
+        now.addAndGet(TimeUnit.SECONDS.toNanos(61));
+        List<ChatMessageResponse> recent = buffer.getRecent(1L, () -> List.of(message(1L, 7L)));
+
+        // then
+        assertThat(recent).extracting(ChatMessageResponse::getMessageId).containsExactly(7L);
+    }
+
+    @Test
+    void 최대_그룹_수_초과시_오래_안쓴_그룹_제거() {
+        // given
+        RecentChatBuffer buffer = new RecentChatBuffer(50, 2, 60, now::get);
+        buffer.append(message(1L, 1L));
+        buffer.append(message(2L, 2L));
+
+        // when
+        buffer.append(message(1L, 3L));     // 1번 그룹 최근 사용
+        buffer.append(message(3L, 4L));
+
+        // then
+        assertThat(buffer.groupCount()).isEqualTo(2);
+        AtomicInteger loadCount = new AtomicInteger();
+        buffer.getRecent(2L, () -> {
+            loadCount.incrementAndGet();
+            return List.of();
+        });
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    private ChatMessageResponse message(Long groupId, Long messageId) {
+        return ChatMessageResponse.builder()
+                .messageId(messageId)
+                .groupId(groupId)
+                .content("message-" + messageId)
+                .build();
+    }
+}
@@ -0,0 +1,73 @@
+package com.nearsplit.domain.notification.repository;
+
+import com.nearsplit.domain.notification.entity.NotificationType;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * packageName  : com.nearsplit.domain.notification.repository
+ * fileName     : NotificationTypeMigrationTest
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : notification.type CHECK 제약 제거 마이그레이션(V15) 테스트 - PostGIS 컨테이너에서 실행
+ *                  - ddl-auto 로 만든 운영 DB 처럼 예전 enum 값 목록으로 CHECK 제약을 건 상태에서 시작
+ *                  - V15 적용 후 모든 NotificationType 저장 가능 확인
+ *                  - Docker 가 없는 환경에서는 건너뜀
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class NotificationTypeMigrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgis = new PostgreSQLContainer<>(
+            DockerImageName.parse("postgis/postgis:16-3.4").asCompatibleSubstituteFor("postgres"));
+
+    private static final String INSERT_SQL =
+            "INSERT INTO notification (user_id, type, title, message, is_read) VALUES (1, ?, '제목', '내용', false)";
+
+    @Test
+    void 예전_CHECK_제약이_있어도_V15_이후_모든_알림_종류_저장() {
+        // given - V14 까지 적용 + Hibernate 가 만든 것과 같은 CHECK 제약 (새 enum 값 없음)
+        DataSource dataSource = new DriverManagerDataSource(postgis.getJdbcUrl(), postgis.getUsername(), postgis.getPassword());
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        flyway(dataSource).target("14").load().migrate();
+        jdbcTemplate.execute("ALTER TABLE notification ADD CHECK "
+                + "(type IN ('JOIN_REQUEST', 'APPROVED', 'REJECTED', 'GROUP_FULL', 'CHAT'))");
+        assertThatThrownBy(() -> jdbcTemplate.update(INSERT_SQL, NotificationType.PAYMENT_CONFIRMED.name()))
+                .hasMessageContaining("notification_type_check");
+
+        // when
+        flyway(dataSource).load().migrate();
+
+        // then
+        for (NotificationType type : NotificationType.values()) {
+            assertThatCode(() -> jdbcTemplate.update(INSERT_SQL, type.name()))
+                    .as("type=%s", type)
+                    .doesNotThrowAnyException();
+        }
+        Integer saved = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notification", Integer.class);
+        assertThat(saved).isEqualTo(NotificationType.values().length);
+    }
+
+    private static FluentConfiguration flyway(DataSource dataSource) {
+        return Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/postgresql");
+    }
+}
@@ -0,0 +1,89 @@
+package com.nearsplit.domain.notification.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * packageName  : com.nearsplit.domain.notification.service
+ * fileName     : MemoryUnreadNotificationCounterTest
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 읽지 않은 알림 개수 캐시 (메모리) 테스트 - DB 계산 값 저장과 알림 생성(증감)이 겹치는 경우
+ *                  - NotificationService.getUnreadCount 순서 그대로: version → (DB 계산) → setIfUnchanged
+ *                  - 알림 생성 커밋 후 add(+1) 이 DB 계산과 저장 사이에 끼어드는 상황을 직접 재현
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+class MemoryUnreadNotificationCounterTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Test
+    void 계산과_저장_사이에_알림이_생기면_계산_값을_저장하지_않음() {
+        // given - 캐시 없음, DB 에는 안 읽은 알림 3건
+        MemoryUnreadNotificationCounter counter = new MemoryUnreadNotificationCounter(300, 100);
+        long version = counter.version(USER_ID);
+        int countedFromDb = 3;
+
+        // when - DB 계산 직후 새 알림 커밋 (키가 없을 때 증감) → 그 다음 계산 값 저장 시도
+        counter.add(USER_ID, 1);
+        counter.setIfUnchanged(USER_ID, countedFromDb, version);
+
+        // then - 낡은 값(3)을 저장하지 않음 → 다음 조회 때 다시 계산
+        assertThat(counter.get(USER_ID)).isNull();
+
+        // 다시 계산 (이번에는 새 알림 포함 4건) → 저장 + 이후 증감 반영
+        long retryVersion = counter.version(USER_ID);
+        counter.setIfUnchanged(USER_ID, 4, retryVersion);
+        counter.add(USER_ID, 1);
+        assertThat(counter.get(USER_ID)).isEqualTo(5);
+    }
+
+    @Test
+    void 계산_중_변경이_없으면_저장하고_먼저_채워진_값은_덮지_않음() {
+        // given
+        MemoryUnreadNotificationCounter counter = new MemoryUnreadNotificationCounter(300, 100);
+        long first = counter.version(USER_ID);
+        long second = counter.version(USER_ID);
+
+        // when - 두 요청이 동시에 계산, 먼저 저장한 값 이후 증감 → 늦게 온 계산 값 저장 시도
+        counter.setIfUnchanged(USER_ID, 3, first);
+        counter.add(USER_ID, -1);
+        counter.setIfUnchanged(USER_ID, 3, second);
+
+        // then - 이미 반영된 증감(-1)을 덮지 않음
+        assertThat(counter.get(USER_ID)).isEqualTo(2);
+    }
+
+    @Test
+    void 삭제_후에는_삭제_전에_읽은_번호로_저장할_수_없음() {
+        // given - 전체 읽음 처리 커밋 전에 계산 시작
+        MemoryUnreadNotificationCounter counter = new MemoryUnreadNotificationCounter(300, 100);
+        long version = counter.version(USER_ID);
+
+        // when - 전체 읽음 커밋 후 evict → 읽음 처리 전 개수 저장 시도
+        counter.evict(USER_ID);
+        counter.setIfUnchanged(USER_ID, 7, version);
+
+        // then
+        assertThat(counter.get(USER_ID)).isNull();
+    }
+
+    @Test
+    void 변경_번호_상한_초과로_비워도_이전에_읽은_번호는_무효() {
+        // given - 변경 번호는 사용자 1명분만 보관
+        MemoryUnreadNotificationCounter counter = new MemoryUnreadNotificationCounter(300, 1);
+        long version = counter.version(USER_ID);
+
+        // when - 계산 중 이 사용자 알림 생성 후 다른 사용자 증감으로 변경 번호 전체 비움
+        counter.add(USER_ID, 1);
+        counter.add(2L, 1);
+        counter.setIfUnchanged(USER_ID, 3, version);
+
+        // then
+        assertThat(counter.get(USER_ID)).isNull();
+    }
+}
@@ -3,6 +3,7 @@ package com.nearsplit.domain.split_group.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nearsplit.common.security.JwtUtil;
 import com.nearsplit.domain.split_group.dto.ParticipantActionRequest;
+import com.nearsplit.domain.split_group.dto.ParticipantBatchActionRequest;
 import com.nearsplit.domain.split_group.dto.SplitGroupRequest;
 import com.nearsplit.domain.split_group.entity.ParticipantStatus;
 import com.nearsplit.domain.split_group.entity.SplitGroup;
@@ -22,7 +23,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -200,14 +203,26 @@ class SplitGroupControllerTest {
                 .andExpect(jsonPath("$[0].isHost").value(false));  // ← 참여자 확인
     }
 
+    @Test
+    void 내_그룹_조회_방장() throws Exception {
+        // given - BeforeEach 에서 user1 이 그룹 생성 (참여 신청 없이도 방장 그룹으로 조회)
+
+        // when & then
+        mockMvc.perform(get("/api/split/my")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].groupId").value(splitGroupId.intValue()))
+                .andExpect(jsonPath("$[0].isHost").value(true));
+    }
+
     @Test
     void 내_그룹_조회_빈_배열() throws Exception {
         // given
-        // 그룹 생성하지 않음
+        // user3 는 그룹 생성/참여하지 않음 (user1 은 BeforeEach 그룹의 방장)
 
         // when & then
         mockMvc.perform(get("/api/split/my")
-                        .header("Authorization", "Bearer " + token))
+                        .header("Authorization", "Bearer " + token3))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$").isEmpty());
@@ -336,6 +351,32 @@ class SplitGroupControllerTest {
                 // 참여자가 삭제되었으므로 status 체크 제거
     }
     @Test
+    void 참여자_일괄_승인_성공() throws Exception {
+        // given - 두 명이 참여 신청, 신청하지 않은 사용자(999)도 요청에 포함
+        for (String joinToken : new String[]{token2, token3}) {
+            mockMvc.perform(post("/api/split/" + splitGroupId + "/join")
+                            .header("Authorization", "Bearer " + joinToken)
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk());
+        }
+
+        ParticipantBatchActionRequest request = new ParticipantBatchActionRequest();
+        request.setParticipantUserIds(List.of(userId2, userId3, 999L));
+        String requestBody = objectMapper.writeValueAsString(request);
+
+        // when & then - 신청 내역이 있는 두 명만 승인, 나머지는 skippedUserIds
+        mockMvc.perform(post("/api/split/" + splitGroupId + "/approve/batch")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.processedUserIds.length()").value(2))
+                .andExpect(jsonPath("$.data.skippedUserIds[0]").value(999));
+
+        assertThat(groupParticipantRepository.countBySplitGroupIdAndStatus(splitGroupId, ParticipantStatus.APPROVED))
+                .isEqualTo(2);
+    }
+    @Test
     void 참여자_거절_실패_방장이아님() throws Exception {
         // given - joinSplitGroup은 ApiResponse로 감싸서 반환 → $.data.userId
         mockMvc.perform(post("/api/split/" + splitGroupId + "/join")
@@ -0,0 +1,94 @@
+package com.nearsplit.domain.split_group.dto;
+
+import com.nearsplit.common.exception.BusinessException;
+import com.nearsplit.common.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * packageName  : com.nearsplit.domain.split_group.dto
+ * fileName     : NearbyGroupCursorTest
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 주변 그룹 검색 커서 인코딩/디코딩 단위 테스트 (왕복 / 잘못된 커서 → 400)
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+class NearbyGroupCursorTest {
+
+    @Test
+    void 가까운순_커서_왕복() {
+        // given
+        NearbyGroupCursor cursor = new NearbyGroupCursor(NearbySearchSort.DISTANCE, 111.19492664455873, null, 42L);
+
+        // when
+        NearbyGroupCursor decoded = NearbyGroupCursor.decode(cursor.encode(), NearbySearchSort.DISTANCE);
+
+        // then - 거리 값이 그대로 복원되어야 같은 거리 그룹의 id 비교가 정확함
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    void 최신순_커서_왕복() {
+        // given
+        NearbyGroupCursor cursor = new NearbyGroupCursor(NearbySearchSort.RECENT, 0,
+                LocalDateTime.of(2026, 10, 17, 9, 30, 15, 123_456_000), 7L);
+
+        // when
+        NearbyGroupCursor decoded = NearbyGroupCursor.decode(cursor.encode(), NearbySearchSort.RECENT);
+
+        // then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    void 커서가_없으면_첫_페이지() {
+        assertThat(NearbyGroupCursor.decode(null, NearbySearchSort.DISTANCE))
+                .isEqualTo(NearbyGroupCursor.first(NearbySearchSort.DISTANCE));
+        assertThat(NearbyGroupCursor.decode(" ", NearbySearchSort.RECENT))
+                .isEqualTo(NearbyGroupCursor.first(NearbySearchSort.RECENT));
+    }
+
+    @Test
+    void Base64_가_아닌_커서는_400() {
+        assertInvalid("%%%not-base64%%%", NearbySearchSort.DISTANCE);
+    }
+
+    @Test
+    void 변조된_커서는_400() {
+        assertInvalid(encode("DISTANCE|abc|1"), NearbySearchSort.DISTANCE);        // 거리 숫자 아님
+        assertInvalid(encode("DISTANCE|1.5"), NearbySearchSort.DISTANCE);          // 구성 요소 누락
+        assertInvalid(encode("DISTANCE|1.5|1|9"), NearbySearchSort.DISTANCE);      // 구성 요소 초과
+        assertInvalid(encode("RECENT|2026-13-40T00:00|1"), NearbySearchSort.RECENT); // 날짜 아님
+        assertInvalid(encode("UNKNOWN|1.5|1"), NearbySearchSort.DISTANCE);         // 없는 정렬 기준
+    }
+
+    @Test
+    void 다른_정렬_기준의_커서는_400() {
+        String recentCursor = new NearbyGroupCursor(NearbySearchSort.RECENT, 0, LocalDateTime.now(), 1L).encode();
+
+        assertInvalid(recentCursor, NearbySearchSort.DISTANCE);
+    }
+
+    private void assertInvalid(String cursor, NearbySearchSort sort) {
+        assertThatThrownBy(() -> NearbyGroupCursor.decode(cursor, sort))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> {
+                    ErrorCode errorCode = ((BusinessException) e).getErrorCode();
+                    assertThat(errorCode).isEqualTo(ErrorCode.INVALID_INPUT);
+                    assertThat(errorCode.getStatus().value()).isEqualTo(400);
+                });
+    }
+
+    private String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
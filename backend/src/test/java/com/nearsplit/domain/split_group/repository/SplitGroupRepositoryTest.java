@@ -1,17 +1,25 @@
 package com.nearsplit.domain.split_group.repository;
 
 import com.nearsplit.config.QueryDslConfig;
+import com.nearsplit.domain.split_group.dto.GroupDetail;
+import com.nearsplit.domain.split_group.dto.GroupDetailVersion;
+import com.nearsplit.domain.split_group.dto.GroupMember;
 import com.nearsplit.domain.split_group.entity.SplitGroup;
 import com.nearsplit.domain.split_group.entity.SplitGroupStatus;
+import com.nearsplit.domain.user.entity.User;
+import com.nearsplit.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -23,6 +31,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 class SplitGroupRepositoryTest {
     @Autowired
     private SplitGroupRepository splitGroupRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManager entityManager;
 
     @Test
     void 소분그룹_생성() {
@@ -100,4 +112,60 @@ class SplitGroupRepositoryTest {
         assertThat(recruitingGroups.get(0).getTitle()).isEqualTo("모집중");
     }
 
+    @Test
+    void 마감일_지난_모집중_그룹만_마감() {
+        // given
+        LocalDate today = LocalDate.now();
+        SplitGroup expired = splitGroupRepository.save(groupClosedAt(today.minusDays(1), SplitGroupStatus.RECRUITING));
+        SplitGroup closingToday = splitGroupRepository.save(groupClosedAt(today, SplitGroupStatus.RECRUITING));
+        SplitGroup expiredFull = splitGroupRepository.save(groupClosedAt(today.minusDays(1), SplitGroupStatus.FULL));
+
+        // when
+        List<GroupMember> targets = splitGroupRepository.findExpiredRecruiting(today, PageRequest.of(0, 10));
+        int closed = splitGroupRepository.closeExpired(targets.stream().map(GroupMember::groupId).toList(), today, LocalDateTime.now());
+
+        // then - 마감일 당일은 아직 모집 중, 이미 FULL 인 그룹은 그대로
+        assertThat(targets).containsExactly(new GroupMember(expired.getId(), 1L));
+        assertThat(closed).isEqualTo(1);
+        assertThat(splitGroupRepository.findStatusById(expired.getId())).contains(SplitGroupStatus.CLOSED);
+        assertThat(splitGroupRepository.findStatusById(closingToday.getId())).contains(SplitGroupStatus.RECRUITING);
+        assertThat(splitGroupRepository.findStatusById(expiredFull.getId())).contains(SplitGroupStatus.FULL);
+    }
+
+    @Test
+    void 방장_닉네임_변경이_상세_버전에_반영() {
+        // given
+        User host = userRepository.save(User.createUser("host@test.com", "encoded", "방장", "방장닉"));
+        SplitGroup group = splitGroupRepository.save(SplitGroup.createGroup(
+                host.getId(), "쿠팡 양배추 소분", BigDecimal.valueOf(30_000),
+                5, "수유역 4번 출구 옆 작업장", LocalDate.now().plusDays(7)));
+        entityManager.flush();
+
+        // when - 닉네임 변경 (users.updated_at 갱신)
+        host.updateProfile("새닉네임", null, null, null);
+        entityManager.flush();
+        entityManager.clear();
+        GroupDetailVersion version = splitGroupRepository.findDetailVersion(group.getId()).orElseThrow();
+        GroupDetail detail = splitGroupRepository.findGroupDetail(group.getId()).orElseThrow();
+
+        // then - 버전에 방장 프로필 수정 시각 포함, 상세 조회와 같은 기준으로 계산 (ETag 일치)
+        LocalDateTime hostUpdatedAt = userRepository.findById(host.getId()).orElseThrow().getUpdatedAt();
+        assertThat(version.profileUpdatedAt()).isEqualTo(hostUpdatedAt);
+        assertThat(detail.version()).isEqualTo(version);
+        assertThat(detail.response().getHostNickname()).isEqualTo("새닉네임");
+    }
+
+    // 마감일 검증을 거치지 않도록 빌더로 생성 (지난 마감일)
+    private SplitGroup groupClosedAt(LocalDate closedAt, SplitGroupStatus status) {
+        return SplitGroup.builder()
+                .hostUserId(1L)
+                .title("마감 테스트")
+                .totalPrice(BigDecimal.valueOf(10000))
+                .maxParticipants(3)
+                .pickupLocation("강남")
+                .closedAt(closedAt)
+                .status(status)
+                .build();
+    }
+
 }
@@ -0,0 +1,97 @@
+package com.nearsplit.domain.split_group.service;
+
+import com.nearsplit.domain.split_group.entity.SplitGroup;
+import com.nearsplit.domain.split_group.entity.SplitGroupStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.PrecisionModel;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * packageName  : com.nearsplit.domain.split_group.service
+ * fileName     : NearbyGroupIndexTest
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 주변 그룹 격자 인덱스 단위 테스트 (스프링 컨텍스트 없이)
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+class NearbyGroupIndexTest {
+
+    private static final GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);
+
+    // 강남역 기준 좌표
+    private static final double BASE_LAT = 37.4979;
+    private static final double BASE_LON = 127.0276;
+
+    private NearbyGroupIndex index;
+
+    @BeforeEach
+    void 인덱스_초기화() {
+        index = new NearbyGroupIndex();
+        index.beginRebuild();
+        index.completeRebuild(List.of());
+    }
+
+    @Test
+    void 반경_안의_그룹만_최신순으로_조회() {
+        // given
+        index.upsert(group(1L, 37.5000, 127.0270, SplitGroupStatus.RECRUITING, 1));    // 약 250m
+        index.upsert(group(2L, 37.5172, 127.0473, SplitGroupStatus.RECRUITING, 2));    // 약 2.8km
+        index.upsert(group(3L, 37.5665, 126.9780, SplitGroupStatus.RECRUITING, 3));    // 약 8.8km (시청)
+
+        // when
+        List<Long> result = index.findNearby(BASE_LAT, BASE_LON, 4000);
+
+        // then
+        assertThat(result).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void 모집중이_아니면_인덱스에서_제거() {
+        // given
+        index.upsert(group(1L, 37.5000, 127.0270, SplitGroupStatus.RECRUITING, 1));
+
+        // when
+        index.upsert(group(1L, 37.5000, 127.0270, SplitGroupStatus.FULL, 1));
+
+        // then
+        assertThat(index.findNearby(BASE_LAT, BASE_LON, 4000)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void 재구성중_변경사항은_교체후에도_유지() {
+        // given
+        index.beginRebuild();
+        index.upsert(group(9L, 37.4990, 127.0280, SplitGroupStatus.RECRUITING, 1));  // 스냅샷 이후 생성된 그룹
+
+        // when
+        index.completeRebuild(List.of(group(1L, 37.5000, 127.0270, SplitGroupStatus.RECRUITING, 0)));
+
+        // then
+        assertThat(index.findNearby(BASE_LAT, BASE_LON, 4000)).containsExactlyInAnyOrder(1L, 9L);
+    }
+
+    private SplitGroup group(Long id, double lat, double lon, SplitGroupStatus status, int minutesAgoOffset) {
+        return SplitGroup.builder()
+                .id(id)
+                .hostUserId(100L)
+                .title("테스트 그룹" + id)
+                .totalPrice(BigDecimal.valueOf(10_000))
+                .maxParticipants(3)
+                .status(status)
+                .location(geometryFactory.createPoint(new Coordinate(lon, lat)))
+                .createdAt(LocalDateTime.now().minusMinutes(10).plusMinutes(minutesAgoOffset))
+                .build();
+    }
+}
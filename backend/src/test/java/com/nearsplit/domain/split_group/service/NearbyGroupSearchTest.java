@@ -0,0 +1,196 @@
+package com.nearsplit.domain.split_group.service;
+
+import com.nearsplit.common.dto.CursorResponse;
+import com.nearsplit.domain.split_group.dto.NearbyGroupResponse;
+import com.nearsplit.domain.split_group.dto.NearbySearchSort;
+import com.nearsplit.domain.split_group.entity.SplitGroup;
+import com.nearsplit.domain.split_group.repository.SplitGroupRepository;
+import com.nearsplit.domain.user.dto.RegisterRequest;
+import com.nearsplit.domain.user.entity.User;
+import com.nearsplit.domain.user.repository.UserRepository;
+import com.nearsplit.domain.user.service.AuthService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * packageName  : com.nearsplit.domain.split_group.service
+ * fileName     : NearbyGroupSearchTest
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 주변 그룹 검색 (반경 + 커서 페이징) 테스트 - PostGIS 네이티브 쿼리라 PostGIS 컨테이너에서 실행
+ *                  - 스키마는 운영과 같은 Flyway 마이그레이션으로 생성 (location_geog 파생 컬럼 포함)
+ *                  - Docker 가 없는 환경에서는 건너뜀
+ *                  - 기준 위치에서 북쪽으로 떨어진 그룹 : near(약 55m), tie1/tie2(약 111m, 같은 위치), mid(약 1.1km), far(약 11km), veryFar(약 28km)
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.driver-class-name=org.postgresql.Driver",
+        "spring.flyway.enabled=true",
+        "spring.flyway.locations=classpath:db/migration/postgresql",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect",
+        "split-group.nearby-search.max-radius-meters=20000"
+})
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional
+class NearbyGroupSearchTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgis = new PostgreSQLContainer<>(
+            DockerImageName.parse("postgis/postgis:16-3.4").asCompatibleSubstituteFor("postgres"));
+
+    private static final double BASE_LAT = 37.5;
+    private static final double BASE_LON = 127.0;
+    private static final GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);
+
+    @Autowired
+    private SplitGroupService splitGroupService;
+    @Autowired
+    private SplitGroupRepository splitGroupRepository;
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long userId;
+    private Long near, tie1, tie2, mid, far, veryFar;
+
+    @BeforeEach
+    void 설정() {
+        userId = authService.register(RegisterRequest.builder()
+                .email("nearby@test.com").password("test1234").name("검색자").nickname("주변탐색").build());
+        User user = userRepository.findById(userId).orElseThrow();
+        user.updateCoordinates(point(BASE_LAT, BASE_LON));
+
+        near = group("near", 0.0005);
+        tie1 = group("tie1", 0.001);
+        tie2 = group("tie2", 0.001);
+        mid = group("mid", 0.01);
+        far = group("far", 0.1);
+        veryFar = group("veryFar", 0.25);
+        entityManager.flush();      // 네이티브 쿼리가 보도록 반영 (location_geog 는 DB 에서 계산)
+    }
+
+    @Test
+    void 가까운순_같은_거리는_id_순으로_페이지_경계가_이어짐() {
+        // when - tie1 / tie2 사이에서 페이지가 나뉨
+        CursorResponse<NearbyGroupResponse> first = search(null, 2, null, NearbySearchSort.DISTANCE);
+        CursorResponse<NearbyGroupResponse> second = search(null, 2, first.getNextCursor(), NearbySearchSort.DISTANCE);
+
+        // then - 기본 반경 4km : far / veryFar 제외
+        assertThat(first.getItems()).extracting(NearbyGroupResponse::getId).containsExactly(near, tie1);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(second.getItems()).extracting(NearbyGroupResponse::getId).containsExactly(tie2, mid);
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    void 최신순_같은_생성시각은_id_역순으로_페이지_경계가_이어짐() {
+        // given - near / tie1 / tie2 는 같은 생성 시각, mid 는 그보다 이전
+        LocalDateTime createdAt = LocalDateTime.of(2026, 10, 17, 12, 0);
+        setCreatedAt(createdAt, near, tie1, tie2);
+        setCreatedAt(createdAt.minusHours(1), mid);
+
+        // when
+        CursorResponse<NearbyGroupResponse> first = search(null, 2, null, NearbySearchSort.RECENT);
+        CursorResponse<NearbyGroupResponse> second = search(null, 2, first.getNextCursor(), NearbySearchSort.RECENT);
+
+        // then
+        assertThat(first.getItems()).extracting(NearbyGroupResponse::getId).containsExactly(tie2, tie1);
+        assertThat(second.getItems()).extracting(NearbyGroupResponse::getId).containsExactly(near, mid);
+        assertThat(second.isHasNext()).isFalse();
+    }
+
+    @Test
+    void 반경_밖의_그룹은_제외() {
+        // when
+        CursorResponse<NearbyGroupResponse> within2km = search(2_000, 50, null, NearbySearchSort.DISTANCE);
+        CursorResponse<NearbyGroupResponse> within15km = search(15_000, 50, null, NearbySearchSort.RECENT);
+
+        // then
+        assertThat(within2km.getItems()).extracting(NearbyGroupResponse::getId).containsExactly(near, tie1, tie2, mid);
+        assertThat(within15km.getItems()).extracting(NearbyGroupResponse::getId)
+                .containsExactlyInAnyOrder(near, tie1, tie2, mid, far);
+    }
+
+    @Test
+    void 반경은_최소_100m_최대_설정값으로_보정() {
+        // when
+        CursorResponse<NearbyGroupResponse> tooSmall = search(1, 50, null, NearbySearchSort.DISTANCE);
+        CursorResponse<NearbyGroupResponse> tooLarge = search(1_000_000, 50, null, NearbySearchSort.DISTANCE);
+
+        // then - 100m : near 만, 20km : veryFar(약 28km) 제외
+        assertThat(tooSmall.getItems()).extracting(NearbyGroupResponse::getId).containsExactly(near);
+        assertThat(tooLarge.getItems()).extracting(NearbyGroupResponse::getId).containsExactly(near, tie1, tie2, mid, far);
+    }
+
+    @Test
+    void 페이지_크기는_1_이상_50_이하로_보정() {
+        // given - 기본 반경 안에 그룹 55개 이상
+        for (int i = 0; i < 55; i++) {
+            group("extra" + i, 0.002);
+        }
+        entityManager.flush();
+
+        // when
+        CursorResponse<NearbyGroupResponse> tooSmall = search(null, 0, null, NearbySearchSort.DISTANCE);
+        CursorResponse<NearbyGroupResponse> tooLarge = search(null, 1_000, null, NearbySearchSort.DISTANCE);
+
+        // then
+        assertThat(tooSmall.getItems()).extracting(NearbyGroupResponse::getId).containsExactly(near);
+        assertThat(tooSmall.isHasNext()).isTrue();
+        assertThat(tooLarge.getItems()).hasSize(50);
+        assertThat(tooLarge.isHasNext()).isTrue();
+    }
+
+    private CursorResponse<NearbyGroupResponse> search(Integer radius, int size, String cursor, NearbySearchSort sort) {
+        return splitGroupService.searchNearbyGroups(userId, radius, size, cursor, sort);
+    }
+
+    private Long group(String title, double latOffset) {
+        SplitGroup group = SplitGroup.createGroup(userId, title, BigDecimal.valueOf(10_000), 4,
+                "픽업 장소", LocalDate.now().plusDays(7));
+        group.updateLocation(point(BASE_LAT + latOffset, BASE_LON));
+        return splitGroupRepository.save(group).getId();
+    }
+
+    private void setCreatedAt(LocalDateTime createdAt, Long... groupIds) {
+        for (Long groupId : groupIds) {
+            jdbcTemplate.update("UPDATE split_group SET created_at = ? WHERE id = ?", Timestamp.valueOf(createdAt), groupId);
+        }
+    }
+
+    private Point point(double lat, double lon) {
+        return geometryFactory.createPoint(new Coordinate(lon, lat));
+    }
+}
@@ -0,0 +1,209 @@
+package com.nearsplit.domain.split_group.service;
+
+import com.nearsplit.common.util.OptimisticLockRetrier;
+import com.nearsplit.domain.split_group.dto.ParticipantActionRequest;
+import com.nearsplit.domain.split_group.dto.ParticipantBatchActionRequest;
+import com.nearsplit.domain.split_group.dto.ParticipantBatchActionResponse;
+import com.nearsplit.domain.split_group.dto.SplitGroupRequest;
+import com.nearsplit.domain.split_group.entity.ParticipantStatus;
+import com.nearsplit.domain.split_group.entity.SplitGroup;
+import com.nearsplit.domain.split_group.entity.SplitGroupStatus;
+import com.nearsplit.domain.split_group.repository.MySplitGroupRepository;
+import com.nearsplit.domain.split_group.repository.ParticipantRepository;
+import com.nearsplit.domain.split_group.repository.SplitGroupRepository;
+import com.nearsplit.domain.user.dto.RegisterRequest;
+import com.nearsplit.domain.user.repository.UserRepository;
+import com.nearsplit.domain.user.service.AuthService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * packageName  : com.nearsplit.domain.split_group.service
+ * fileName     : ParticipantAdmissionConcurrencyTest
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 참여 신청 / 승인 동시성 테스트 (SplitGroupService 를 컨트롤러와 같은 방식으로 호출)
+ *                  - 스레드마다 별도 트랜잭션으로 실행해야 하므로 테스트 트랜잭션은 사용하지 않음 (데이터는 직접 정리)
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ * 2026-10-17(토)                user            저장소 직접 호출 → 서비스 신청/승인 흐름으로 변경, 단건/일괄 승인 혼합 추가
+ */
+@SpringBootTest
+class ParticipantAdmissionConcurrencyTest {
+
+    private static final int MAX_PARTICIPANTS = 10;
+    private static final int CONCURRENT_REQUESTS = 1000;
+    private static final long FIRST_APPLICANT_ID = 1_000_000L;
+
+    @Autowired
+    private SplitGroupService splitGroupService;
+    @Autowired
+    private OptimisticLockRetrier optimisticLockRetrier;
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private SplitGroupRepository splitGroupRepository;
+    @Autowired
+    private ParticipantRepository participantRepository;
+    @Autowired
+    private MySplitGroupRepository mySplitGroupRepository;
+
+    private Long hostId;
+    private Long groupId;
+
+    @BeforeEach
+    void 그룹생성() {
+        hostId = authService.register(RegisterRequest.builder()
+                .email("concurrency-host@test.com").password("test1234").name("방장").nickname("동시성방장").build());
+
+        SplitGroupRequest request = new SplitGroupRequest();
+        request.setTitle("쿠팡 양배추 소분");
+        request.setTotalPrice(BigDecimal.valueOf(30_000));
+        request.setMaxParticipants(MAX_PARTICIPANTS);
+        request.setPickupLocation("수유역 4번 출구 옆 작업장");
+        request.setClosedAt(LocalDate.now().plusDays(7));
+        groupId = splitGroupService.createSplitGroup(hostId, request).getId();
+    }
+
+    @AfterEach
+    void 정리() {
+        mySplitGroupRepository.deleteAllInBatch();
+        participantRepository.deleteAllInBatch();
+        splitGroupRepository.deleteAllInBatch();
+        userRepository.deleteById(hostId);
+    }
+
+    @Test
+    void 동시_신청_승인_1000건에도_정원을_넘지_않음() throws InterruptedException {
+        // given
+        AtomicInteger admitted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        // when - 1000명이 동시에 신청 → 방장이 바로 승인 (컨트롤러와 같이 신청만 낙관적 락 재시도)
+        runConcurrently(CONCURRENT_REQUESTS, CONCURRENT_REQUESTS, i -> {
+            Long applicantId = FIRST_APPLICANT_ID + i;
+            try {
+                optimisticLockRetrier.execute(() -> splitGroupService.joinSplitGroup(groupId, applicantId));
+                splitGroupService.approveParticipant(groupId, hostId, new ParticipantActionRequest(applicantId, null));
+                admitted.incrementAndGet();
+            } catch (RuntimeException e) {
+                rejected.incrementAndGet();     // 정원 마감 / 재시도 초과 / 커넥션 대기 초과 - 승인되지 않은 것으로 집계
+            }
+        });
+
+        // then
+        assertAdmittedExactlyToCapacity();
+        assertThat(admitted.get()).isEqualTo(MAX_PARTICIPANTS);
+        assertThat(admitted.get() + rejected.get()).isEqualTo(CONCURRENT_REQUESTS);
+    }
+
+    @Test
+    void 단건_승인과_일괄_승인이_섞여도_정원을_넘지_않음() throws InterruptedException {
+        // given - 정원보다 많은 대기 중 신청
+        int applicants = MAX_PARTICIPANTS * 5;
+        List<Long> applicantIds = new ArrayList<>();
+        for (int i = 0; i < applicants; i++) {
+            Long applicantId = FIRST_APPLICANT_ID + i;
+            splitGroupService.joinSplitGroup(groupId, applicantId);
+            applicantIds.add(applicantId);
+        }
+        AtomicInteger approved = new AtomicInteger();
+
+        // when - 짝수 작업은 단건 승인, 홀수 작업은 5명씩 일괄 승인 (같은 신청자를 양쪽에서 동시에 승인)
+        runConcurrently(applicants, 32, i -> {
+            try {
+                if (i % 2 == 0) {
+                    splitGroupService.approveParticipant(groupId, hostId, new ParticipantActionRequest(applicantIds.get(i), null));
+                    approved.incrementAndGet();
+                } else {
+                    List<Long> chunk = new ArrayList<>();
+                    for (int offset = 0; offset < 5; offset++) {
+                        chunk.add(applicantIds.get((i - 1 + offset) % applicants));
+                    }
+                    ParticipantBatchActionResponse response = optimisticLockRetrier.execute(() ->
+                            splitGroupService.approveParticipants(groupId, hostId, new ParticipantBatchActionRequest(chunk, null)));
+                    approved.addAndGet(response.getProcessedUserIds().size());
+                }
+            } catch (RuntimeException e) {
+                // 이미 승인됨 / 정원 마감 / 재시도 초과 - 승인되지 않은 것으로 집계
+            }
+        });
+
+        // then - 단건/일괄이 보고한 승인 수 합계도 정원과 같아야 함 (같은 신청 중복 승인 X)
+        assertAdmittedExactlyToCapacity();
+        assertThat(approved.get()).isEqualTo(MAX_PARTICIPANTS);
+    }
+
+    @Test
+    void 같은_사용자_동시_신청은_1건만_저장() throws InterruptedException {
+        // given
+        AtomicInteger duplicated = new AtomicInteger();
+
+        // when - 더블 클릭처럼 같은 사용자가 동시에 신청
+        runConcurrently(50, 16, i -> {
+            try {
+                optimisticLockRetrier.execute(() -> splitGroupService.joinSplitGroup(groupId, FIRST_APPLICANT_ID));
+            } catch (IllegalArgumentException e) {
+                duplicated.incrementAndGet();
+            }
+        });
+
+        // then
+        assertThat(participantRepository.findUserIdsBySplitGroupId(groupId)).containsExactly(FIRST_APPLICANT_ID);
+        assertThat(duplicated.get()).isEqualTo(49);
+    }
+
+    private void assertAdmittedExactlyToCapacity() {
+        SplitGroup group = splitGroupRepository.findById(groupId).orElseThrow();
+        assertThat(group.getCurrentParticipants()).isEqualTo(MAX_PARTICIPANTS);
+        assertThat(group.getStatus()).isEqualTo(SplitGroupStatus.FULL);
+        assertThat(participantRepository.countBySplitGroupIdAndStatus(groupId, ParticipantStatus.APPROVED))
+                .isEqualTo(MAX_PARTICIPANTS);
+    }
+
+    private void runConcurrently(int count, int threads, IndexedTask task) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(count);
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    task.run(index);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(120, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+    }
+
+    @FunctionalInterface
+    private interface IndexedTask {
+        void run(int index) throws InterruptedException;
+    }
+}
@@ -0,0 +1,93 @@
+package com.nearsplit.external.juso.service;
+
+import com.nearsplit.external.juso.dto.AddressDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주소 접두어 인덱스 단위 테스트
+ */
+class AddressPrefixIndexTest {
+
+    private final AddressPrefixIndex index = new AddressPrefixIndex(30, 20, 200_000, 1000);
+
+    @Test
+    void 중간_단어부터_입력해도_조회() {
+        // given
+        index.addAll(List.of(
+                address("서울특별시 강남구 테헤란로 123", "서울특별시 강남구 역삼동 123-45", "06241", "역삼타워"),
+                address("서울특별시 강남구 논현로 85", "서울특별시 강남구 개포동 12", "06300", null)
+        ));
+
+        // when & then
+        assertThat(index.find("테헤란로", 10)).extracting(AddressDto::getZipNo).containsExactly("06241");
+        assertThat(index.find("역삼동 123", 10)).extracting(AddressDto::getZipNo).containsExactly("06241");
+        assertThat(index.find("역삼타워", 10)).extracting(AddressDto::getZipNo).containsExactly("06241");
+        assertThat(index.find("강남구", 10)).hasSize(2);
+    }
+
+    @Test
+    void 공백_차이는_같은_검색어로_취급() {
+        index.addAll(List.of(address("서울특별시 강남구 테헤란로 123", null, "06241", null)));
+
+        assertThat(index.find("  강남구   테헤란로 ", 10)).hasSize(1);
+    }
+
+    @Test
+    void 같은_주소는_한번만_저장() {
+        AddressDto dto = address("서울특별시 강남구 테헤란로 123", null, "06241", null);
+
+        index.addAll(List.of(dto, dto));
+        index.addAll(List.of(dto));
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.find("서울", 10)).hasSize(1);
+    }
+
+    @Test
+    void 최대_접두어_길이보다_긴_검색어는_주소_원문과_비교() {
+        // given - 앞 5글자까지만 trie 에 저장
+        AddressPrefixIndex shortIndex = new AddressPrefixIndex(30, 5, 200_000, 1000);
+        shortIndex.addAll(List.of(
+                address("서울특별시 강남구 테헤란로 123", null, "06241", null),
+                address("서울특별시 강남구 논현로 85", null, "06300", null)
+        ));
+
+        // when & then
+        assertThat(shortIndex.find("서울특별시", 10)).hasSize(2);
+        assertThat(shortIndex.find("서울특별시 강남구 테헤란로", 10)).extracting(AddressDto::getZipNo).containsExactly("06241");
+        assertThat(shortIndex.find("강남구 논현로 85", 10)).extracting(AddressDto::getZipNo).containsExactly("06300");
+    }
+
+    @Test
+    void 노드_수_상한_초과시_오래_조회되지_않은_주소부터_제거() {
+        // given - 주소 1건당 노드 16 ~ 18개
+        AddressPrefixIndex smallIndex = new AddressPrefixIndex(30, 5, 40, 1000);
+        smallIndex.addAll(List.of(address("서울특별시 강남구 테헤란로 123", null, "06241", null)));
+        smallIndex.addAll(List.of(address("부산광역시 해운대구 센텀로 45", null, "48058", null)));
+        smallIndex.find("서울", 10);
+
+        // when
+        smallIndex.addAll(List.of(address("대구광역시 중구 동성로 7", null, "41911", null)));
+
+        // then - 가장 오래 조회되지 않은 부산 주소만 제거
+        assertThat(smallIndex.nodeCount()).isLessThanOrEqualTo(40);
+        assertThat(smallIndex.find("부산", 10)).isEmpty();
+        assertThat(smallIndex.find("해운대구", 10)).isEmpty();
+        assertThat(smallIndex.find("서울", 10)).hasSize(1);
+        assertThat(smallIndex.find("동성로", 10)).hasSize(1);
+        assertThat(smallIndex.size()).isEqualTo(2);
+    }
+
+    private AddressDto address(String roadAddr, String jibunAddr, String zipNo, String bdNm) {
+        return AddressDto.builder()
+                .roadAddr(roadAddr)
+                .jibunAddr(jibunAddr)
+                .zipNo(zipNo)
+                .bdNm(bdNm)
+                .build();
+    }
+}
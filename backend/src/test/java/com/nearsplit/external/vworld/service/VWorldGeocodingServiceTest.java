@@ -0,0 +1,208 @@
+package com.nearsplit.external.vworld.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nearsplit.external.vworld.client.VWorldApiClient;
+import com.nearsplit.external.vworld.dto.Coordinate;
+import com.nearsplit.external.vworld.dto.VWorldGeocodingResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * packageName  : com.nearsplit.external.vworld.service
+ * fileName     : VWorldGeocodingServiceTest
+ * author       : user
+ * date         : 2026-10-17(토)
+ * description   : 주소 → 좌표 2단계 캐시 + single-flight 테스트
+ *                  - VWorld API / DB 캐시는 호출 횟수를 세는 가짜 구현으로 대체 (API 응답은 테스트가 풀어줄 때까지 대기)
+ *                  - 동시 요청이 모두 대기 상태가 된 뒤 응답을 풀어서 "조회 중 합류" 상황을 확실히 만듦
+ * ===================================================
+ * DATE                   AUTHOR          NOTE
+ * ---------------------------------------------------
+ * 2026-10-17(토)                user            최초 생성
+ */
+class VWorldGeocodingServiceTest {
+
+    private static final String ADDRESS = "서울 강남구 테헤란로 152";
+    private static final int CALLERS = 16;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final FakeApiClient client = new FakeApiClient();
+    private final FakeCacheStore store = new FakeCacheStore();
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void 정리() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void 같은_주소_동시_요청은_API_한_번만_호출하고_결과_공유() throws Exception {
+        // given
+        VWorldGeocodingService service = new VWorldGeocodingService(client, store, meterRegistry, 100, 24);
+
+        // when - 첫 요청이 API 응답을 기다리는 동안 나머지 요청이 모두 합류
+        List<Future<Coordinate>> results = submitAll(() -> service.getCoordinate(ADDRESS));
+        awaitAllWaiting();
+        client.release.countDown();
+
+        // then
+        for (Future<Coordinate> result : results) {
+            Coordinate coordinate = result.get(5, TimeUnit.SECONDS);
+            assertThat(coordinate.getLatitude()).isEqualTo(37.5012);
+            assertThat(coordinate.getLongitude()).isEqualTo(127.0396);
+        }
+        assertThat(client.calls.get()).isEqualTo(1);
+        assertThat(store.saves.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 메모리_캐시에서_밀려나면_DB_캐시에서_조회() {
+        // given - 메모리 캐시 1건만 보관
+        VWorldGeocodingService service = new VWorldGeocodingService(client, store, meterRegistry, 1, 24);
+        client.release.countDown();
+        service.getCoordinate(ADDRESS);
+        service.getCoordinate("서울 중구 세종대로 110");      // ADDRESS 를 메모리 캐시에서 밀어냄
+
+        // when
+        Coordinate coordinate = service.getCoordinate(ADDRESS);
+
+        // then - API 추가 호출 없이 DB 캐시에서 읽고 메모리 캐시를 다시 채움
+        assertThat(coordinate.getLatitude()).isEqualTo(37.5012);
+        assertThat(client.calls.get()).isEqualTo(2);
+        assertThat(meterRegistry.get("geocode.cache.requests").tag("result", "db").counter().count()).isEqualTo(1);
+
+        service.getCoordinate(ADDRESS);
+        assertThat(meterRegistry.get("geocode.cache.requests").tag("result", "memory").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void API_실패는_대기_중인_모든_요청에_전달되고_다음_요청은_다시_시도() throws Exception {
+        // given
+        VWorldGeocodingService service = new VWorldGeocodingService(client, store, meterRegistry, 100, 24);
+        client.failure = new RuntimeException("VWorld API 호출 실패: 503");
+
+        // when
+        List<Future<Coordinate>> results = submitAll(() -> service.getCoordinate(ADDRESS));
+        awaitAllWaiting();
+        client.release.countDown();
+
+        // then - 모든 요청이 같은 예외, API 는 한 번만 호출
+        for (Future<Coordinate> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(RuntimeException.class)
+                    .hasRootCauseMessage("VWorld API 호출 실패: 503");
+        }
+        assertThat(client.calls.get()).isEqualTo(1);
+        assertThat(store.saves.get()).isZero();
+
+        // 실패 결과는 캐시하지 않음 → 다음 요청은 API 다시 호출
+        client.failure = null;
+        assertThat(service.getCoordinate(ADDRESS).getLongitude()).isEqualTo(127.0396);
+        assertThat(client.calls.get()).isEqualTo(2);
+    }
+
+    // ========================================
+    // 내부 메서드
+    // ========================================
+
+    private List<Future<Coordinate>> submitAll(Callable<Coordinate> call) {
+        List<Future<Coordinate>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> {
+                client.callers.add(Thread.currentThread());
+                return call.call();
+            }));
+        }
+        return results;
+    }
+
+    // 첫 요청은 API 응답 대기(latch), 나머지는 진행 중인 조회 결과 대기(join) → 모두 WAITING 이 될 때까지 확인
+    private void awaitAllWaiting() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            if (client.callers.size() == CALLERS
+                    && client.callers.stream().allMatch(thread -> thread.getState() == Thread.State.WAITING)) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("동시 요청이 대기 상태가 되지 않았습니다.");
+    }
+
+    // API 호출 횟수를 세고, release 전까지 응답을 보내지 않는 가짜 클라이언트
+    static class FakeApiClient extends VWorldApiClient {
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<Thread> callers = new CopyOnWriteArrayList<>();
+        volatile RuntimeException failure;
+
+        FakeApiClient() {
+            super("http://localhost");
+        }
+
+        @Override
+        public VWorldGeocodingResponse getCoordinate(String address) {
+            calls.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return okResponse();
+        }
+
+        private static VWorldGeocodingResponse okResponse() {
+            try {
+                return new ObjectMapper().readValue("""
+                        {"response": {"status": "OK", "result": {"point": {"x": "127.0396", "y": "37.5012"}}}}
+                        """, VWorldGeocodingResponse.class);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    // 메모리 Map 으로 대신하는 DB 캐시
+    static class FakeCacheStore extends GeocodeCacheStore {
+        final Map<String, Coordinate> rows = new ConcurrentHashMap<>();
+        final AtomicInteger saves = new AtomicInteger();
+
+        FakeCacheStore() {
+            super(null);
+        }
+
+        @Override
+        public Optional<Coordinate> find(String normalizedAddress) {
+            return Optional.ofNullable(rows.get(normalizedAddress));
+        }
+
+        @Override
+        public void save(String normalizedAddress, Coordinate coordinate) {
+            saves.incrementAndGet();
+            rows.put(normalizedAddress, coordinate);
+        }
+    }
+}
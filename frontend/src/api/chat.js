@@ -7,6 +7,13 @@ export const getChatHistory = (groupId, page = 0, size = 50) => {
   return apiClient.get(`/chat/${groupId}/history`, { params: { page, size } })
 }
 
+// 특정 메시지 이전 메시지 조회 (무한 스크롤)
+// GET /api/chat/{groupId}/messages?before={messageId}&size=50
+// 응답: { items, nextCursor, hasNext } - 더 불러올 때 nextCursor 를 before 로 전달
+export const getMessagesBefore = (groupId, before = null, size = 50) => {
+  return apiClient.get(`/chat/${groupId}/messages`, { params: { before, size } })
+}
+
 // 최근 메시지 조회 (최신 20개)
 // GET /api/chat/{groupId}/recent
 export const getRecentMessages = (groupId) => {
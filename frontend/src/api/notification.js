@@ -11,10 +11,11 @@ import apiClient from './axios'
 // ===========================
 // 알림 목록 조회 API
 // ===========================
-// GET /api/notifications
-// 현재 로그인한 사용자의 알림 목록 반환 (최신순 정렬)
-export const getNotifications = () => {
-  return apiClient.get('/notifications')
+// GET /api/notifications/feed?cursor=&size=
+// 현재 로그인한 사용자의 알림 목록 반환 (최신순, 커서 페이징)
+// 응답: { items, nextCursor, hasNext } - 다음 페이지는 nextCursor 를 cursor 로 전달
+export const getNotifications = (cursor = null, size = 20) => {
+  return apiClient.get('/notifications/feed', { params: { cursor, size } })
 }
 
 // ===========================